@@ -0,0 +1,86 @@
+package com.example.SomeOne.dao;
+
+import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단기예보 응답 파싱 비교.
+ * 스트리밍 파서(KmaResponseParser)와 기존 방식(본문 문자열 + org.json 트리)을 같은 크기의 응답으로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KmaResponseParserBenchmark {
+
+    private static final String[] CATEGORIES = {"TMP", "UUU", "VVV", "VEC", "WSD", "SKY", "PTY", "POP", "WAV", "PCP", "REH", "SNO"};
+
+    // numOfRows (기본 조회 1000건, 하루치 전체 조회 약 3000건)
+    @Param({"1000", "3000"})
+    private int items;
+
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder(items * 160);
+        json.append("{\"response\":{\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL_SERVICE\"},")
+                .append("\"body\":{\"dataType\":\"JSON\",\"items\":{\"item\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            String category = CATEGORIES[i % CATEGORIES.length];
+            int hour = i / CATEGORIES.length % 24;
+            json.append("{\"baseDate\":\"20241017\",\"baseTime\":\"0500\",\"category\":\"").append(category)
+                    .append("\",\"fcstDate\":\"20241017\",\"fcstTime\":\"").append(String.format("%02d00", hour))
+                    .append("\",\"fcstValue\":\"").append(category.equals("PCP") ? "강수없음" : String.valueOf(i % 30))
+                    .append("\",\"nx\":52,\"ny\":38}");
+        }
+        json.append("]},\"pageNo\":1,\"numOfRows\":").append(items)
+                .append(",\"totalCount\":").append(items).append("}}}");
+        body = json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public ShortTermForecastDTO streaming() {
+        return KmaResponseParser.parseVilageFcst(new ByteArrayInputStream(body));
+    }
+
+    // 변경 전 DAO와 같은 방식: 본문 전체를 문자열로 만든 뒤 트리로 파싱
+    @Benchmark
+    public ShortTermForecastDTO jsonTree() {
+        JSONObject response = new JSONObject(new String(body, StandardCharsets.UTF_8)).getJSONObject("response");
+        ShortTermForecastDTO dto = new ShortTermForecastDTO();
+        dto.setResultCode(response.getJSONObject("header").getString("resultCode"));
+        JSONArray array = response.getJSONObject("body").getJSONObject("items").getJSONArray("item");
+        for (int i = 0; i < array.length(); i++) {
+            JSONObject item = array.getJSONObject(i);
+            if (dto.getBaseDate() == null) {
+                dto.setBaseDate(item.getString("baseDate"));
+                dto.setBaseTime(item.getString("baseTime"));
+            }
+            switch (item.getString("category")) {
+                case "TMP":
+                    dto.setTemperature(item.optDouble("fcstValue"));
+                    break;
+                case "REH":
+                    dto.setHumidity(item.optDouble("fcstValue"));
+                    break;
+            }
+        }
+        return dto;
+    }
+}
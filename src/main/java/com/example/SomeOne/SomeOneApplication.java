@@ -2,10 +2,15 @@ package com.example.SomeOne;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
-@SpringBootApplication
+// Redis 연결은 store.type=redis일 때만 ShortLivedStoreConfig에서 가져오고, Redis 리포지토리는 쓰지 않음
+@SpringBootApplication(exclude = {RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class})
 @EnableFeignClients
+@EnableScheduling
 public class SomeOneApplication {
 
 	public static void main(String[] args) {
@@ -4,6 +4,8 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 
+import java.util.Optional;
+
 public class SecurityUtil {
 
     public static Long getAuthenticatedUserId() {
@@ -35,4 +37,13 @@ public class SecurityUtil {
 
         throw new IllegalArgumentException("Unknown principal type");
     }
+
+    // 토큰 없이도 호출할 수 있는 API용 (인증되지 않은 요청이면 empty)
+    public static Optional<Long> findAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || "anonymousUser".equals(authentication.getPrincipal())) {
+            return Optional.empty();
+        }
+        return Optional.of(getAuthenticatedUserId());
+    }
 }
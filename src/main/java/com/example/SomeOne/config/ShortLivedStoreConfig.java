@@ -0,0 +1,40 @@
+package com.example.SomeOne.config;
+
+import com.example.SomeOne.utils.InMemoryShortLivedStore;
+import com.example.SomeOne.utils.RedisShortLivedStore;
+import com.example.SomeOne.utils.ShortLivedStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+// 인가 코드 중복 사용 방지, 카카오 토큰 캐싱 등에 쓰는 단기 저장소 (store.type=memory|redis)
+@Configuration
+public class ShortLivedStoreConfig {
+
+    // 단일 인스턴스 기본값
+    @Bean
+    @ConditionalOnProperty(name = "store.type", havingValue = "memory", matchIfMissing = true)
+    public ShortLivedStore inMemoryShortLivedStore(@Value("${store.memory.max-size:100000}") int maxSize) {
+        return new InMemoryShortLivedStore(maxSize);
+    }
+
+    // 여러 인스턴스가 상태를 공유 (spring.data.redis.* 연결 설정 사용)
+    @Bean
+    @ConditionalOnProperty(name = "store.type", havingValue = "redis")
+    public ShortLivedStore redisShortLivedStore(RedisConnectionFactory redisConnectionFactory,
+                                                @Value("${store.redis.key-prefix:someone:}") String keyPrefix) {
+        return new RedisShortLivedStore(new StringRedisTemplate(redisConnectionFactory), keyPrefix);
+    }
+
+    // Redis 자동 설정은 애플리케이션에서 제외하고 store.type=redis일 때만 가져옴 (memory일 때는 연결 팩토리를 만들지 않음)
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "store.type", havingValue = "redis")
+    @Import(RedisAutoConfiguration.class)
+    static class RedisConnectionConfig {
+    }
+}
@@ -3,11 +3,13 @@ package com.example.SomeOne.config;
 import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ReactorResourceFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -18,16 +20,31 @@ import java.util.function.Function;
 @Configuration
 public class WebClientConfig {
 
+    @Value("${http.client.max-total:200}")
+    private int maxConnections;
+
+    @Value("${http.client.idle-evict-seconds:30}")
+    private long idleEvictSeconds;
+
     @Bean
     public ReactorResourceFactory resourceFactory() {
         ReactorResourceFactory factory = new ReactorResourceFactory();
         factory.setUseGlobalResources(false);
+        // keep-alive 연결 풀 크기 제한 및 유휴 연결 정리
+        factory.setConnectionProviderSupplier(() -> ConnectionProvider.builder("webclient")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofSeconds(2))
+                .maxIdleTime(Duration.ofSeconds(idleEvictSeconds))
+                .maxLifeTime(Duration.ofMinutes(5))
+                .evictInBackground(Duration.ofSeconds(idleEvictSeconds))
+                .build());
         return factory;
     }
 
     @Bean
     public WebClient webClient() {
-        Function<HttpClient, HttpClient> mapper = client -> HttpClient.create()
+        // resourceFactory의 연결 풀을 쓰는 client를 그대로 설정
+        Function<HttpClient, HttpClient> mapper = client -> client
                 .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 1000)
                 .doOnConnected(connection -> connection.addHandlerLast(new ReadTimeoutHandler(10))
                         .addHandlerLast(new WriteTimeoutHandler(10)))
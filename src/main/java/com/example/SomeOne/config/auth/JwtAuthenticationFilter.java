@@ -25,10 +25,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         String token = getTokenFromRequest(request);
 
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String userId = jwtTokenProvider.getUserIdFromToken(token);
-            Authentication authentication = jwtTokenProvider.getAuthentication(userId);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        // 토큰 검증 결과는 캐싱되고, 인증 정보는 DB 조회 없이 토큰의 사용자 ID로 만든다
+        if (token != null) {
+            jwtTokenProvider.getVerifiedUserId(token).ifPresent(userId -> {
+                Authentication authentication = jwtTokenProvider.getAuthentication(userId);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response); // 다음 필터로 요청 전달
@@ -1,35 +1,61 @@
 package com.example.SomeOne.config.auth;
 
-import com.example.SomeOne.service.CustomUserDetailsService;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.ShortLivedStore;
+import com.example.SomeOne.utils.TokenHashes;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    // 탈퇴한 사용자 표시 (값은 탈퇴 시각, 그 전에 발급된 토큰은 거부). 가장 긴 리프레시 토큰 유효기간 동안 유지
+    private static final String REVOKED_USER_KEY_PREFIX = "jwt:revoked-user:";
+    private static final Duration REVOCATION_TTL = Duration.ofDays(60);
+
     private final SecretKey secretKey;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final JwtParser parser; // 스레드 안전하므로 한 번만 생성
+    private final CoalescingCache<String, VerifiedToken> verifiedTokens;
+    private final ShortLivedStore shortLivedStore;
 
-    public JwtTokenProvider(@Value("${custom.jwt.secretKey}") String secretKey, CustomUserDetailsService customUserDetailsService) {
+    public JwtTokenProvider(@Value("${custom.jwt.secretKey}") String secretKey,
+                            @Value("${custom.jwt.cache.max-size:10000}") int cacheMaxSize,
+                            ShortLivedStore shortLivedStore) {
         byte[] keyBytes = Base64.getDecoder().decode(secretKey);  // Base64 디코딩
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);  // SecretKey 생성
-        this.customUserDetailsService = customUserDetailsService;
+        this.parser = Jwts.parserBuilder().setSigningKey(this.secretKey).build();
+        this.shortLivedStore = shortLivedStore;
+        // 검증된 토큰은 토큰의 만료 시각까지만 캐싱
+        this.verifiedTokens = new CoalescingCache<>("verifiedJwt", cacheMaxSize,
+                (key, token, now) -> token.expiresAt());
+    }
+
+    // 검증을 통과한 토큰의 사용자 ID, 발급 시각(없으면 0), 만료 시각
+    private record VerifiedToken(String userId, long issuedAt, long expiresAt) {
     }
 
     // Access Token 생성
     public String generateAccessToken(String uid, Date expiryDate) {
         return Jwts.builder()
                 .setSubject(uid)
+                .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
@@ -39,6 +65,7 @@ public class JwtTokenProvider {
     public String generateRefreshToken(String uid, Date expiryDate) {
         return Jwts.builder()
                 .setSubject(uid)  // 사용자 ID를 포함
+                .setIssuedAt(new Date())
                 .setExpiration(expiryDate)
                 .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
@@ -46,23 +73,63 @@ public class JwtTokenProvider {
 
     // JWT 토큰 검증
     public boolean validateToken(String token) {
-        try {
-            Jwts.parserBuilder().setSigningKey(secretKey).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return parseClaims(token).isPresent();
     }
 
     // JWT에서 사용자 ID 추출
     public String getUserIdFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(secretKey).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    // 서명과 만료를 한 번만 검증하고 클레임 반환 (유효하지 않으면 empty)
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 요청 인증용: 검증된 토큰이면 사용자 ID, 아니면 empty.
+    // 토큰 해시를 키로 만료 시각까지 결과를 캐싱해 같은 토큰은 서명을 다시 검증하지 않는다.
+    // 캐시에 있어도 탈퇴한 사용자의 토큰인지는 매번 확인한다.
+    public Optional<String> getVerifiedUserId(String token) {
+        VerifiedToken verified = verifiedTokens.get(TokenHashes.sha256(token), key -> verify(token));
+        if (verified == null || verified.expiresAt() <= System.currentTimeMillis() || isRevoked(verified)) {
+            return Optional.empty();
+        }
+        return Optional.of(verified.userId());
+    }
+
+    // 지금까지 이 사용자에게 발급한 토큰을 모두 거부 (탈퇴 시 호출)
+    public void revokeUser(String userId) {
+        shortLivedStore.put(REVOKED_USER_KEY_PREFIX + userId, String.valueOf(System.currentTimeMillis()), REVOCATION_TTL);
+    }
+
+    // iat는 초 단위라 탈퇴와 같은 초에 발급된 토큰도 거부된다
+    private boolean isRevoked(VerifiedToken verified) {
+        return shortLivedStore.get(REVOKED_USER_KEY_PREFIX + verified.userId())
+                .map(revokedAt -> verified.issuedAt() <= Long.parseLong(revokedAt))
+                .orElse(false);
     }
 
-    // 토큰 검증 후 인증 정보 생성
+    // 토큰 클레임만으로 인증 정보 생성 (DB 조회 없음, CustomUserDetailsService와 같은 형태의 principal)
     public Authentication getAuthentication(String userId) {
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(userId);
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        User principal = new User(userId, "", Collections.emptyList());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
+    }
+
+    public CacheStats getCacheStats() {
+        return verifiedTokens.stats();
+    }
+
+    // 만료 시각과 사용자 ID가 없는 토큰은 인증에 쓰지 않음 (null은 캐싱되지 않음)
+    private VerifiedToken verify(String token) {
+        return parseClaims(token)
+                .filter(claims -> claims.getExpiration() != null && claims.getSubject() != null && !claims.getSubject().isEmpty())
+                .map(claims -> new VerifiedToken(claims.getSubject(),
+                        claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0,
+                        claims.getExpiration().getTime()))
+                .orElse(null);
     }
-}
\ No newline at end of file
+}
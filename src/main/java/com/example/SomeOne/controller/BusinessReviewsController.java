@@ -25,7 +25,7 @@ public class BusinessReviewsController {
     @PostMapping("/createOrUpdate")
     public ResponseEntity<BusinessReviewResponse> create(
             @Validated @RequestPart("request") CreateBusinessReviewRequest request,
-            @RequestPart("images") List<MultipartFile> images) {
+            @RequestPart(value = "images", required = false) List<MultipartFile> images) {
         Long userId = SecurityUtil.getAuthenticatedUserId(); // JWT에서 사용자 ID 가져오기
         return ResponseEntity.ok(businessReviewsService.createOrUpdateBusinessReview(userId, request, images));
     }
@@ -51,9 +51,10 @@ public class BusinessReviewsController {
     }
 
     @GetMapping("/all")
-    public ResponseEntity<?> getAllReviews() {
+    public ResponseEntity<?> getAllReviews(@RequestParam(value = "cursor", required = false) Long cursor,
+                                           @RequestParam(value = "size", required = false) Integer size) {
         Long userId = SecurityUtil.getAuthenticatedUserId();
-        List<BusinessReviewResponse> response = businessReviewsService.getAllBusinessReviews(userId);
+        List<BusinessReviewResponse> response = businessReviewsService.getAllBusinessReviews(userId, cursor, size);
 
         if (response.isEmpty()) {
             return ResponseEntity.status(404).body("리뷰가 없습니다.");
@@ -7,6 +7,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Set;
 
 import static com.example.SomeOne.config.SecurityUtil.getAuthenticatedUserId;
 
@@ -39,10 +40,19 @@ public class FavoriteController {
         return ResponseEntity.ok(response);
     }
 
+    // 여러 장소의 좋아요 여부를 한 번에 조회 (좋아요한 장소 ID만 반환)
+    @GetMapping("/status")
+    public ResponseEntity<Set<Long>> getFavoriteStatus(@RequestParam List<Long> businessIds) {
+        Long userId = getAuthenticatedUserId();
+        Set<Long> response = favoriteService.findFavoriteBusinessIds(userId, businessIds);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/get-all")
-    public ResponseEntity<List<FavoriteResponse>> getFavorites() {
+    public ResponseEntity<List<FavoriteResponse>> getFavorites(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                               @RequestParam(value = "size", required = false) Integer size) {
         Long userId = getAuthenticatedUserId();
-        List<FavoriteResponse> response = favoriteService.getFavorites(userId);
+        List<FavoriteResponse> response = favoriteService.getFavorites(userId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -0,0 +1,26 @@
+package com.example.SomeOne.controller;
+
+import com.example.SomeOne.config.SecurityUtil;
+import com.example.SomeOne.dto.Images.request.UploadSlotsRequest;
+import com.example.SomeOne.dto.Images.response.UploadSlotResponse;
+import com.example.SomeOne.service.S3ImageUploadService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/images")
+public class ImageUploadController {
+
+    private final S3ImageUploadService s3ImageUploadService;
+
+    // S3 직접 업로드용 presigned URL 발급 (업로드 후 받은 key를 기록/리뷰 저장 시 imageKeys로 전달)
+    @PostMapping("/upload-slots")
+    public ResponseEntity<List<UploadSlotResponse>> createUploadSlots(@RequestBody UploadSlotsRequest request) {
+        Long userId = SecurityUtil.getAuthenticatedUserId();
+        return ResponseEntity.ok(s3ImageUploadService.createUploadSlots(userId, request.getContentTypes()));
+    }
+}
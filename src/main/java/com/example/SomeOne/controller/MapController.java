@@ -3,10 +3,11 @@ package com.example.SomeOne.controller;
 
 import com.example.SomeOne.config.SecurityUtil;
 import com.example.SomeOne.dto.Businesses.response.BusinessResponse;
+import com.example.SomeOne.dto.Businesses.response.MapMarkersResponse;
+import com.example.SomeOne.dto.Businesses.response.MyPlacesPageResponse;
 import com.example.SomeOne.service.KakaoMapService;
 import com.example.SomeOne.service.MapService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +30,29 @@ public class MapController {
         return ResponseEntity.ok(businessMarkers);
     }
 
+    // 지도 화면 영역(경도 minX~maxX, 위도 minY~maxY) 안의 장소만 마커로 표시
+    @GetMapping("/businesses/viewport")
+    public ResponseEntity<List<BusinessResponse>> getViewportMarkers(@RequestParam double minX,
+                                                                     @RequestParam double minY,
+                                                                     @RequestParam double maxX,
+                                                                     @RequestParam double maxY) {
+        Long userId = SecurityUtil.findAuthenticatedUserId().orElse(null); // 토큰이 없으면 좋아요 표시 없이
+        List<BusinessResponse> businessMarkers = mapService.getBusinessesInViewport(userId, minX, minY, maxX, maxY);
+        return ResponseEntity.ok(businessMarkers);
+    }
+
+    // 줌 레벨에 맞춰 묶은 클러스터와 개별 마커 (축소된 화면에서는 클러스터 위주로 응답)
+    @GetMapping("/businesses/clusters")
+    public ResponseEntity<MapMarkersResponse> getClusteredMarkers(@RequestParam double minX,
+                                                                  @RequestParam double minY,
+                                                                  @RequestParam double maxX,
+                                                                  @RequestParam double maxY,
+                                                                  @RequestParam int zoom) {
+        Long userId = SecurityUtil.findAuthenticatedUserId().orElse(null); // 토큰이 없으면 좋아요 표시 없이
+        MapMarkersResponse response = mapService.getMarkersInViewport(userId, minX, minY, maxX, maxY, zoom);
+        return ResponseEntity.ok(response);
+    }
+
     // 특정 사용자의 여행 장소만 마커로 표시하는 엔드포인트 (JWT에서 사용자 ID 가져오기)
     @GetMapping("/businesses/user")
     public ResponseEntity<List<BusinessResponse>> getUserBusinessMarkers() {
@@ -37,6 +61,15 @@ public class MapController {
         return ResponseEntity.ok(businessMarkers);
     }
 
+    // 내 여행 장소 목록 (장소별 한 번, 최근 방문순, nextCursor로 다음 페이지 요청)
+    @GetMapping("/my-places")
+    public ResponseEntity<MyPlacesPageResponse> getMyPlaces(@RequestParam(required = false) String cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        Long userId = SecurityUtil.getAuthenticatedUserId(); // JWT에서 사용자 ID 가져오기
+        MyPlacesPageResponse response = mapService.getMyPlacesPage(userId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     // 내 여행 장소 검색 API (JWT에서 사용자 ID 가져오기)
     @GetMapping("/my-places/search")
     public ResponseEntity<List<BusinessResponse>> searchMyPlaces(
@@ -48,8 +81,10 @@ public class MapController {
 
     // 섬 데이터 비즈니스 장소 검색
     @GetMapping("/businesses/search")
-    public ResponseEntity<?> searchBusinesses(@RequestParam String keyword) {
-        List<BusinessResponse> places = mapService.searchBusinesses(keyword); // userId 전달하지 않음
+    public ResponseEntity<?> searchBusinesses(@RequestParam String keyword,
+                                              @RequestParam(defaultValue = "0") int page,
+                                              @RequestParam(required = false) Integer size) {
+        List<BusinessResponse> places = mapService.searchBusinesses(keyword, page, size); // userId 전달하지 않음
 
         return ResponseEntity.ok(places);
     }
@@ -0,0 +1,54 @@
+package com.example.SomeOne.controller;
+
+import com.example.SomeOne.config.auth.JwtTokenProvider;
+import com.example.SomeOne.dto.metrics.HttpPoolStatsResponse;
+import com.example.SomeOne.service.KakaoMapService;
+import com.example.SomeOne.service.UserService;
+import com.example.SomeOne.utils.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final PoolingHttpClientConnectionManager httpClientConnectionManager;
+    private final KakaoMapService kakaoMapService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final UserService userService;
+
+    @GetMapping("/http-pool") // 외부 API 커넥션 풀 상태
+    public ResponseEntity<HttpPoolStatsResponse> httpPoolStats() {
+        Map<String, HttpPoolStatsResponse.Stats> routes = new TreeMap<>();
+        httpClientConnectionManager.getRoutes().forEach(route ->
+                routes.put(route.getTargetHost().toURI(),
+                        HttpPoolStatsResponse.Stats.from(httpClientConnectionManager.getStats(route))));
+
+        HttpPoolStatsResponse response = new HttpPoolStatsResponse(
+                HttpPoolStatsResponse.Stats.from(httpClientConnectionManager.getTotalStats()), routes);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/kakao-search-cache") // 카카오 장소 검색 캐시 히트율, 평균 API 응답 시간
+    public ResponseEntity<CacheStats> kakaoSearchCacheStats() {
+        return ResponseEntity.ok(kakaoMapService.getCacheStats());
+    }
+
+    @GetMapping("/jwt-cache") // 검증된 토큰 캐시 히트율, 평균 서명 검증 시간
+    public ResponseEntity<CacheStats> jwtCacheStats() {
+        return ResponseEntity.ok(jwtTokenProvider.getCacheStats());
+    }
+
+    @GetMapping("/kakao-user-cache") // 카카오 사용자 정보 캐시 히트율, 평균 API 응답 시간
+    public ResponseEntity<CacheStats> kakaoUserCacheStats() {
+        return ResponseEntity.ok(userService.getKakaoUserInfoCacheStats());
+    }
+}
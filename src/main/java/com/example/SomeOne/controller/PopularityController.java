@@ -24,17 +24,23 @@ public class PopularityController {
     private final FavoritesService favoritesService;
 
     @GetMapping("/landmark/list") // 인기관광지 둘러보기
-    public ResponseEntity<List<PopularityPlaceResponse>> landmarkList(@RequestParam("islandId") Long islandId) {
+    public ResponseEntity<List<PopularityPlaceResponse>> landmarkList(@RequestParam("islandId") Long islandId,
+                                                                      @RequestParam(value = "page", defaultValue = "0") int page,
+                                                                      @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                      @RequestParam(value = "size", required = false) Integer size) {
         Long userId = getAuthenticatedUserId();
-        List<PopularityPlaceResponse> response = popularityService.listLandmark(userId, islandId);
+        List<PopularityPlaceResponse> response = popularityService.listLandmark(userId, islandId, page, cursor, size);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/recommend/place") // 추천장소 리스트
     public ResponseEntity<List<PopularityPlaceResponse>> recommendPlaceList(@RequestParam("islandId") Long islandId,
-                                                                            @RequestParam("category") Business_category category) {
+                                                                            @RequestParam("category") Business_category category,
+                                                                            @RequestParam(value = "page", defaultValue = "0") int page,
+                                                                            @RequestParam(value = "cursor", required = false) Long cursor,
+                                                                            @RequestParam(value = "size", required = false) Integer size) {
         Long userId = getAuthenticatedUserId();
-        List<PopularityPlaceResponse> response = popularityService.recommendPlaceList(userId, islandId, category);
+        List<PopularityPlaceResponse> response = popularityService.recommendPlaceList(userId, islandId, category, page, cursor, size);
         return ResponseEntity.ok(response);
     }
 
@@ -51,4 +57,4 @@ public class PopularityController {
         LikeResponse response = favoritesService.updateLike(userId, request.getBusinessId());
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.example.SomeOne.dto.Businesses.response.FindBusinessesResponse;
 import com.example.SomeOne.dto.Businesses.response.RecommendPlaceResponse;
 import com.example.SomeOne.dto.TravelPlans.response.*;
 import com.example.SomeOne.dto.TravelPlans.request.*;
+import com.example.SomeOne.service.AutocompleteService;
 import com.example.SomeOne.service.BusinessesService;
 import com.example.SomeOne.service.IslandService;
 import com.example.SomeOne.service.TravelPlaceService;
@@ -26,10 +27,21 @@ public class TravelController {
     private final TravelPlansService travelPlansService;
     private final BusinessesService businessesService;
     private final TravelPlaceService travelPlaceService;
+    private final AutocompleteService autocompleteService;
 
     @GetMapping("/findIsland")
-    public ResponseEntity<List<FindIslandResponse>> findIsland(@RequestParam("keyword") String keyword) {
-        List<FindIslandResponse> response = islandService.findIsland(keyword);
+    public ResponseEntity<List<FindIslandResponse>> findIsland(@RequestParam("keyword") String keyword,
+                                                               @RequestParam(value = "page", defaultValue = "0") int page,
+                                                               @RequestParam(value = "size", required = false) Integer size) {
+        List<FindIslandResponse> response = islandService.findIsland(keyword, page, size);
+        return ResponseEntity.ok(response);
+    }
+
+    // 검색창 입력 중 섬/장소 이름 자동완성 (초성 검색 가능, 인기순)
+    @GetMapping("/autocomplete")
+    public ResponseEntity<AutocompleteResponse> autocomplete(@RequestParam("keyword") String keyword,
+                                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        AutocompleteResponse response = autocompleteService.autocomplete(keyword, size);
         return ResponseEntity.ok(response);
     }
 
@@ -41,8 +53,10 @@ public class TravelController {
     }
 
     @GetMapping("/findPlace")
-    public ResponseEntity<List<FindBusinessesResponse>> findPlace(@RequestParam("keyword") String keyword) {
-        List<FindBusinessesResponse> response = businessesService.findBusinesses(keyword);
+    public ResponseEntity<List<FindBusinessesResponse>> findPlace(@RequestParam("keyword") String keyword,
+                                                                  @RequestParam(value = "page", defaultValue = "0") int page,
+                                                                  @RequestParam(value = "size", required = false) Integer size) {
+        List<FindBusinessesResponse> response = businessesService.findBusinesses(keyword, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -66,9 +80,10 @@ public class TravelController {
     }
 
     @GetMapping("/plans")
-    public ResponseEntity<List<GetPlansResponse>> getPlans() {
+    public ResponseEntity<List<GetPlansResponse>> getPlans(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                           @RequestParam(value = "size", required = false) Integer size) {
         Long userId = getAuthenticatedUserId();
-        List<GetPlansResponse> response = travelPlansService.getPlan(userId);
+        List<GetPlansResponse> response = travelPlansService.getPlan(userId, cursor, size);
         return ResponseEntity.ok(response);
     }
 
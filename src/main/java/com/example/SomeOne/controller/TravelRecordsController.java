@@ -4,11 +4,15 @@ import com.example.SomeOne.config.SecurityUtil;
 import com.example.SomeOne.dto.TravelRecords.Request.CreateTravelRecordRequest;
 import com.example.SomeOne.dto.TravelRecords.Response.TravelRecordResponse;
 import com.example.SomeOne.service.TravelRecordsService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -17,10 +21,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class TravelRecordsController {
 
+    private static final int EXPORT_PAGE_SIZE = 50;
+
     private final TravelRecordsService travelRecordsService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/create")
-    public ResponseEntity<?> createTravelRecord(@RequestParam("images") List<MultipartFile> images,
+    public ResponseEntity<?> createTravelRecord(@RequestParam(value = "images", required = false) List<MultipartFile> images,
                                                 @ModelAttribute CreateTravelRecordRequest request) {
         Long userId = SecurityUtil.getAuthenticatedUserId();
         try {
@@ -31,12 +38,6 @@ public class TravelRecordsController {
         }
     }
 
-    // Global 예외 처리 핸들러
-    @ExceptionHandler(IllegalArgumentException.class)
-    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
-        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-    }
-
     //여행 기록 수정
     @PostMapping("/update/{recordId}")
     public TravelRecordResponse updateTravelRecord(@PathVariable Long recordId,
@@ -68,28 +69,59 @@ public class TravelRecordsController {
         return travelRecordsService.getRecordById(recordId, userId);
     }
 
-    // 사용자별 여행 기록 조회
+    // 사용자별 여행 기록 조회 (cursor: 이전 페이지 마지막 recordId, size가 없으면 전체)
     @GetMapping("/view-user")
-    public List<TravelRecordResponse> getRecordsByUser() {
-        return travelRecordsService.getRecordsByUser();
+    public List<TravelRecordResponse> getRecordsByUser(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                       @RequestParam(value = "size", required = false) Integer size) {
+        return travelRecordsService.getRecordsByUser(cursor, size);
     }
 
     // 여행 계획별 여행 기록 조회
     @GetMapping("/view-plan/{planId}")
-    public List<TravelRecordResponse> getRecordsByPlan(@PathVariable Long planId) {
-        return travelRecordsService.getRecordsByPlan(planId);
+    public List<TravelRecordResponse> getRecordsByPlan(@PathVariable Long planId,
+                                                       @RequestParam(value = "cursor", required = false) Long cursor,
+                                                       @RequestParam(value = "size", required = false) Integer size) {
+        return travelRecordsService.getRecordsByPlan(planId, cursor, size);
     }
 
     // 사용자별 공개된 여행 기록 조회
     @GetMapping("/view-user-true")
-    public List<TravelRecordResponse> getRecordsByUserTrue() {
-        return travelRecordsService.getRecordsByUserTrue();
+    public List<TravelRecordResponse> getRecordsByUserTrue(@RequestParam(value = "cursor", required = false) Long cursor,
+                                                           @RequestParam(value = "size", required = false) Integer size) {
+        return travelRecordsService.getRecordsByUserTrue(cursor, size);
     }
 
     // 여행 계획별 공개된 여행 기록 조회
     @GetMapping("/view-plan-true/{planId}")
-    public List<TravelRecordResponse> getRecordsByPlanTrue(@PathVariable Long planId) {
-        return travelRecordsService.getRecordsByPlanTrue(planId);
+    public List<TravelRecordResponse> getRecordsByPlanTrue(@PathVariable Long planId,
+                                                           @RequestParam(value = "cursor", required = false) Long cursor,
+                                                           @RequestParam(value = "size", required = false) Integer size) {
+        return travelRecordsService.getRecordsByPlanTrue(planId, cursor, size);
+    }
+
+    // 사용자 여행 기록 전체 내보내기 (한 번에 메모리에 올리지 않고 페이지 단위로 읽어 JSON 배열로 스트리밍)
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportRecords() {
+        Long userId = SecurityUtil.getAuthenticatedUserId();
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                Long cursor = null;
+                List<TravelRecordResponse> page;
+                do {
+                    page = travelRecordsService.getRecordsByUser(userId, false, cursor, EXPORT_PAGE_SIZE);
+                    for (TravelRecordResponse record : page) {
+                        objectMapper.writeValue(generator, record);
+                    }
+                    generator.flush();
+                    if (!page.isEmpty()) {
+                        cursor = page.get(page.size() - 1).getRecordId();
+                    }
+                } while (page.size() == EXPORT_PAGE_SIZE);
+                generator.writeEndArray();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
 
-}
\ No newline at end of file
+}
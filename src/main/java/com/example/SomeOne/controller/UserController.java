@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Date;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/user")
@@ -98,13 +99,12 @@ public class UserController {
 
     @PostMapping("/refresh-token")
     public ResponseEntity<LoginResponse> refreshToken(@RequestHeader("Refresh-Token") String refreshToken) {
-        // 리프레시 토큰 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 리프레시 토큰 검증 후 사용자 ID 추출 (탈퇴한 사용자의 토큰은 거부)
+        Optional<String> verifiedUserId = jwtTokenProvider.getVerifiedUserId(refreshToken);
+        if (verifiedUserId.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(null);
         }
-
-        // 리프레시 토큰에서 사용자 ID 추출
-        String userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        String userId = verifiedUserId.get();
         Users user = userRepository.findById(Long.parseLong(userId))
                 .orElseThrow(() -> new NoSuchElementException("User not found with id: " + userId));
 
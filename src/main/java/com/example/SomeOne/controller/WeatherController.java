@@ -1,16 +1,22 @@
 package com.example.SomeOne.controller;
 
+import com.example.SomeOne.dto.weather.IslandForecastDTO;
 import com.example.SomeOne.dto.weather.MidTermForecastDTO;
 import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
 import com.example.SomeOne.dto.weather.WeatherNowDTO;
 import com.example.SomeOne.service.MidTermForecastService;
+import com.example.SomeOne.service.ReactiveWeatherService;
 import com.example.SomeOne.service.ShortTermForecastService;
 import com.example.SomeOne.service.WeatherService;
+import com.example.SomeOne.utils.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/weather")
@@ -19,12 +25,15 @@ public class WeatherController {
     private final WeatherService weatherService;
     private final ShortTermForecastService shortTermForecastService;
     private final MidTermForecastService midTermForecastService;
+    private final ReactiveWeatherService reactiveWeatherService;
 
     @Autowired
-    public WeatherController(WeatherService weatherService, ShortTermForecastService shortTermForecastService, MidTermForecastService midTermForecastService) {
+    public WeatherController(WeatherService weatherService, ShortTermForecastService shortTermForecastService,
+                             MidTermForecastService midTermForecastService, ReactiveWeatherService reactiveWeatherService) {
         this.weatherService = weatherService;
         this.shortTermForecastService = shortTermForecastService;
         this.midTermForecastService = midTermForecastService;
+        this.reactiveWeatherService = reactiveWeatherService;
     }
 
     @GetMapping("/current")
@@ -42,5 +51,35 @@ public class WeatherController {
         return midTermForecastService.getMidTermLandFcst(regId);
     }
 
+    // 논블로킹 조회 (외부 API 대기 중 요청 스레드를 반환)
+    @GetMapping("/async/current")
+    public Mono<WeatherNowDTO> getCurrentWeatherAsync(@RequestParam int nx, @RequestParam int ny) {
+        return reactiveWeatherService.getCurrentWeather(nx, ny);
+    }
+
+    @GetMapping("/async/short-term-forecast")
+    public Mono<ShortTermForecastDTO> getShortTermForecastAsync(@RequestParam int nx, @RequestParam int ny) {
+        return reactiveWeatherService.getShortTermForecast(nx, ny);
+    }
+
+    @GetMapping("/async/mid-term-forecast")
+    public Mono<MidTermForecastDTO> getMidTermLandFcstAsync(@RequestParam String regId) {
+        return reactiveWeatherService.getMidTermLandFcst(regId);
+    }
+
+    // 섬별 초단기/단기/중기 예보를 동시에 조회
+    @GetMapping("/island/{islandId}")
+    public Mono<ResponseEntity<IslandForecastDTO>> getIslandForecasts(@PathVariable Long islandId) {
+        return reactiveWeatherService.getIslandForecasts(islandId)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // 초단기실황 캐시 적중률 및 원본 조회 지연 시간
+    @GetMapping("/cache-stats")
+    public CacheStats getCacheStats() {
+        return weatherService.getCacheStats();
+    }
+
 
 }
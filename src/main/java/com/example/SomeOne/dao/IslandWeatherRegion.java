@@ -0,0 +1,34 @@
+package com.example.SomeOne.dao;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+// 지원하는 섬별 기상청 격자 좌표(nx, ny) 및 중기예보 육상 예보구역 코드
+@Getter
+@RequiredArgsConstructor
+public enum IslandWeatherRegion {
+    강화도(1L, 51, 130, "11B00000"),
+    거제도(2L, 90, 69, "11H20000"),
+    남해도(3L, 77, 68, "11H20000"),
+    선유도(4L, 56, 92, "11F10000"),
+    영종도(5L, 52, 125, "11B00000"),
+    완도(6L, 57, 56, "11F20000"),
+    욕지도(7L, 84, 63, "11H20000"),
+    제주도(8L, 52, 38, "11G00000"),
+    진도(9L, 48, 59, "11F20000"),
+    흑산도(10L, 33, 64, "11F20000");
+
+    private final Long islandId;
+    private final int nx;
+    private final int ny;
+    private final String midTermRegId;
+
+    public static IslandWeatherRegion findByIslandId(Long islandId) {
+        return Arrays.stream(values())
+                .filter(region -> region.islandId.equals(islandId))
+                .findFirst()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,358 @@
+package com.example.SomeOne.dao;
+
+import com.example.SomeOne.dto.weather.MidTermForecastDTO;
+import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
+import com.example.SomeOne.dto.weather.WeatherNowDTO;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.DoubleConsumer;
+
+/**
+ * 기상청 API 응답을 트리(DOM) 없이 입력 스트림에서 바로 읽어 DTO로 변환한다.
+ * JSON은 Jackson 스트리밍 파서, XML(오류 응답 포함)은 StAX로 읽고 사용하는 항목만 꺼낸다.
+ */
+@Slf4j
+final class KmaResponseParser {
+
+    private static final String RESULT_CODE_OK = "00";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final XMLInputFactory XML_FACTORY = createXmlInputFactory();
+
+    private static final int FIRST_MID_TERM_DAY = 3;
+    private static final int LAST_MID_TERM_DAY = 7;
+
+    private KmaResponseParser() {
+    }
+
+    // 응답의 말단 값(이름, 값)과 item 종료 시점을 전달받는 콜백
+    private interface FieldVisitor {
+        void field(String name, String value);
+
+        default void endItem() {
+        }
+    }
+
+    // 초단기실황 (T1H, RN1, REH)
+    static WeatherNowDTO parseUltraSrtNcst(InputStream in) {
+        WeatherNowDTO dto = new WeatherNowDTO();
+        read(in, new FieldVisitor() {
+            private String category;
+            private String value;
+
+            @Override
+            public void field(String name, String text) {
+                switch (name) {
+                    case "category":
+                        category = text;
+                        break;
+                    case "obsrValue":
+                        value = text;
+                        break;
+                    case "resultCode":
+                    case "returnReasonCode": // XML 오류 응답
+                        dto.setResultCode(text);
+                        break;
+                    case "resultMsg":
+                    case "returnAuthMsg":
+                        dto.setResultMsg(text);
+                        break;
+                    case "baseDate":
+                        if (dto.getBaseDate() == null) {
+                            dto.setBaseDate(text);
+                        }
+                        break;
+                    case "baseTime":
+                        if (dto.getBaseTime() == null) {
+                            dto.setBaseTime(text);
+                        }
+                        break;
+                }
+            }
+
+            @Override
+            public void endItem() {
+                if (category != null && value != null) {
+                    switch (category) {
+                        case "T1H": // 온도
+                            setIfNumber(value, dto::setTemperature);
+                            break;
+                        case "RN1": // 강수량
+                            setIfNumber(value, dto::setRainfall);
+                            break;
+                        case "REH": // 습도
+                            setIfNumber(value, dto::setHumidity);
+                            break;
+                    }
+                }
+                category = null;
+                value = null;
+            }
+        });
+        return dto;
+    }
+
+    // 단기예보 (TMP, POP, REH, SKY) - 가장 가까운 예보 시각의 값만 사용
+    static ShortTermForecastDTO parseVilageFcst(InputStream in) {
+        ShortTermForecastDTO dto = new ShortTermForecastDTO();
+        Set<String> applied = new HashSet<>(8);
+        read(in, new FieldVisitor() {
+            private String category;
+            private String value;
+
+            @Override
+            public void field(String name, String text) {
+                switch (name) {
+                    case "category":
+                        category = text;
+                        break;
+                    case "fcstValue":
+                    case "obsrValue":
+                        value = text;
+                        break;
+                    case "resultCode":
+                    case "returnReasonCode": // XML 오류 응답
+                        dto.setResultCode(text);
+                        break;
+                    case "resultMsg":
+                    case "returnAuthMsg":
+                        dto.setResultMsg(text);
+                        break;
+                    case "baseDate":
+                        if (dto.getBaseDate() == null) {
+                            dto.setBaseDate(text);
+                        }
+                        break;
+                    case "baseTime":
+                        if (dto.getBaseTime() == null) {
+                            dto.setBaseTime(text);
+                        }
+                        break;
+                }
+            }
+
+            @Override
+            public void endItem() {
+                if (category != null && value != null && applied.add(category)) {
+                    switch (category) {
+                        case "TMP": // 온도
+                            setIfNumber(value, dto::setTemperature);
+                            break;
+                        case "POP": // 강수확률
+                            setIfNumber(value, dto::setRainfall);
+                            break;
+                        case "REH": // 습도
+                            setIfNumber(value, dto::setHumidity);
+                            break;
+                        case "SKY": // 날씨 상태
+                            dto.setWeatherCondition(parseWeatherCondition(value));
+                            break;
+                    }
+                }
+                category = null;
+                value = null;
+            }
+        });
+        return dto;
+    }
+
+    // 중기육상예보 (wfNAm/Pm, rnStNAm/Pm, 3~7일차). 오류 응답이면 null,
+    // 아직 발표 전(NO_DATA)이거나 본문에 예보가 없으면 빈 DTO (캐시에 잠깐만 보관됨)
+    static MidTermForecastDTO parseMidLandFcst(InputStream in) {
+        int days = LAST_MID_TERM_DAY - FIRST_MID_TERM_DAY + 1;
+        String[][] weather = new String[days][2];
+        Integer[][] rainProb = new Integer[days][2];
+        String[] errorMessage = new String[1];
+        String[] result = new String[2]; // resultCode, resultMsg
+        boolean[] hasWeather = new boolean[1];
+
+        read(in, (name, text) -> {
+            if (name.equals("errMsg") || name.equals("returnAuthMsg")) {
+                errorMessage[0] = text;
+                return;
+            }
+            if (name.equals("resultCode")) {
+                result[0] = text;
+            } else if (name.equals("resultMsg")) {
+                result[1] = text;
+            } else if (name.startsWith("wf")) {
+                int day = dayIndex(name, 2);
+                if (day >= 0) {
+                    weather[day][halfIndex(name)] = text;
+                    hasWeather[0] = true;
+                }
+            } else if (name.startsWith("rnSt")) {
+                int day = dayIndex(name, 4);
+                if (day >= 0) {
+                    rainProb[day][halfIndex(name)] = parseIntOrDefault(text, -1);
+                }
+            }
+        });
+
+        if (errorMessage[0] != null) {
+            log.warn("Error in mid-term forecast response: {}", errorMessage[0]);
+            return null;
+        }
+
+        MidTermForecastDTO dto = new MidTermForecastDTO();
+        if (result[0] != null && !RESULT_CODE_OK.equals(result[0])) {
+            log.warn("Mid-term forecast not available: {} {}", result[0], result[1]);
+            return dto;
+        }
+        if (!hasWeather[0]) {
+            log.warn("Mid-term forecast response has no forecast items");
+            return dto;
+        }
+        for (int i = 0; i < days; i++) {
+            String morningWeather = weather[i][0] != null ? weather[i][0] : "정보 없음";
+            String eveningWeather = weather[i][1] != null ? weather[i][1] : "정보 없음";
+
+            // 강수량 계산 (오전/오후 강수 확률이 없으면 -1을 기본값으로 사용)
+            int rainfall = (rainProb[i][0] != null ? rainProb[i][0] : -1) + (rainProb[i][1] != null ? rainProb[i][1] : -1);
+
+            // 날씨 상태
+            String weatherCondition = morningWeather.equals(eveningWeather) ? morningWeather : morningWeather + " / " + eveningWeather;
+
+            dto.addForecast(FIRST_MID_TERM_DAY + i, "", morningWeather, eveningWeather, rainfall, -1, -1, weatherCondition);
+        }
+        return dto;
+    }
+
+    // 첫 글자로 JSON/XML을 판별해 해당 스트리밍 파서로 읽는다. 파싱 오류는 그때까지 읽은 값만 남긴다.
+    private static void read(InputStream in, FieldVisitor visitor) {
+        try (PushbackInputStream stream = new PushbackInputStream(in, 1)) {
+            int first = stream.read();
+            while (first != -1 && Character.isWhitespace(first)) {
+                first = stream.read();
+            }
+            if (first == -1) {
+                return;
+            }
+            stream.unread(first);
+
+            if (first == '<') {
+                readXml(stream, visitor);
+            } else {
+                readJson(stream, visitor);
+            }
+        } catch (IOException | XMLStreamException e) {
+            log.warn("Failed to parse KMA response", e);
+        }
+    }
+
+    private static void readJson(InputStream in, FieldVisitor visitor) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.END_OBJECT) {
+                    visitor.endItem();
+                } else if (token == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken valueToken = parser.nextToken();
+                    if (valueToken != null && valueToken.isScalarValue()) {
+                        visitor.field(name, parser.getValueAsString());
+                    }
+                }
+            }
+        }
+    }
+
+    private static void readXml(InputStream in, FieldVisitor visitor) throws XMLStreamException {
+        XMLStreamReader reader = XML_FACTORY.createXMLStreamReader(in);
+        try {
+            String leaf = null;
+            StringBuilder text = new StringBuilder();
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        leaf = reader.getLocalName();
+                        text.setLength(0);
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        if (leaf != null) {
+                            text.append(reader.getText());
+                        }
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        String name = reader.getLocalName();
+                        if (name.equals(leaf)) {
+                            visitor.field(name, text.toString().trim());
+                        } else if (name.equals("item")) {
+                            visitor.endItem();
+                        }
+                        leaf = null;
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    // wf3Am, rnSt7Pm 형태의 필드에서 일차 인덱스(0부터)를 구한다. 해당하지 않으면 -1
+    private static int dayIndex(String name, int prefixLength) {
+        if (name.length() != prefixLength + 3) {
+            return -1;
+        }
+        int day = name.charAt(prefixLength) - '0';
+        if (day < FIRST_MID_TERM_DAY || day > LAST_MID_TERM_DAY) {
+            return -1;
+        }
+        String half = name.substring(prefixLength + 1);
+        return half.equals("Am") || half.equals("Pm") ? day - FIRST_MID_TERM_DAY : -1;
+    }
+
+    private static int halfIndex(String name) {
+        return name.endsWith("Am") ? 0 : 1;
+    }
+
+    private static void setIfNumber(String value, DoubleConsumer setter) {
+        try {
+            setter.accept(Double.parseDouble(value));
+        } catch (NumberFormatException e) {
+            // "강수없음" 등 숫자가 아닌 값은 무시
+        }
+    }
+
+    private static int parseIntOrDefault(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static String parseWeatherCondition(String code) {
+        switch (code) {
+            case "1":
+                return "맑음";
+            case "3":
+                return "구름 많음";
+            case "4":
+                return "흐림";
+            default:
+                return "알 수 없음";
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+}
@@ -1,19 +1,24 @@
 package com.example.SomeOne.dao;
 
 import com.example.SomeOne.dto.weather.MidTermForecastDTO;
-import org.json.JSONException;
-import org.json.JSONObject;
-import org.json.XML;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.KmaBaseTime;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.net.URI;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+@Slf4j
 @Repository
 public class MidTermForecastDAO {
 
@@ -22,116 +27,105 @@ public class MidTermForecastDAO {
 
     private final String API_URL = "http://apis.data.go.kr/1360000/MidFcstInfoService/getMidLandFcst";
 
+    private static final long ERROR_RESPONSE_TTL_MILLIS = 60_000;
+
+    // 중기육상예보 캐시 (예보구역 + 발표시각 단위, 다음 발표 시각에 만료)
+    private final CoalescingCache<RegionKey, MidTermForecastDTO> cache =
+            new CoalescingCache<>("midLandFcst", 500, (key, value, now) ->
+                    !value.getForecasts().isEmpty()
+                            ? key.expiresAt()
+                            : Math.min(key.expiresAt(), now + ERROR_RESPONSE_TTL_MILLIS)); // 발표 전(NO_DATA)이나 파싱 실패 응답은 잠깐만 보관
+
+    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+
+    public MidTermForecastDAO(RestTemplate restTemplate, WebClient webClient) {
+        this.restTemplate = restTemplate;
+        this.webClient = webClient;
+    }
+
     public MidTermForecastDTO getMidTermLandFcst(String regId) {
-        RestTemplate restTemplate = new RestTemplate();
+        return cache.get(currentKey(regId), this::fetchMidTermLandFcst);
+    }
+
+    // 논블로킹 조회 (캐시는 동기 조회와 공유)
+    public Mono<MidTermForecastDTO> getMidTermLandFcstAsync(String regId) {
+        return Mono.fromFuture(() -> cache.getAsync(currentKey(regId), key -> webClient.get()
+                .uri(URI.create(buildUrl(key)))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .flatMap(buffer -> Mono.justOrEmpty(KmaResponseParser.parseMidLandFcst(buffer.asInputStream(true))))
+                .onErrorResume(e -> {
+                    log.warn("Failed to fetch mid-term land forecast for {} ({})", key.regId(), key.tmFc(), e);
+                    return Mono.empty();
+                })
+                .toFuture()));
+    }
+
+    // 캐시를 거치지 않고 최신 발표 자료를 받아 캐시에 저장 (사전 적재용)
+    public MidTermForecastDTO refreshMidTermLandFcst(String regId) {
+        RegionKey key = currentKey(regId);
+        MidTermForecastDTO dto = fetchMidTermLandFcst(key);
+        if (dto != null) {
+            cache.put(key, dto);
+        }
+        return dto;
+    }
 
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private RegionKey currentKey(String regId) {
         // 현재 날짜와 시간을 가져와서 tmFc(발표시각)에 설정
-        LocalDateTime now = LocalDateTime.now();
-        String tmFc;
+        LocalDateTime now = LocalDateTime.now(KmaBaseTime.KST);
+        LocalDateTime issuedAt;
 
         // 현재 시각이 06:00 이후, 18:00 이전이라면 06:00 발표 시각을 사용
         if (now.getHour() >= 6 && now.getHour() < 18) {
-            tmFc = now.format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "0600";
+            issuedAt = now.toLocalDate().atTime(6, 0);
         } else {
             // 그 외에는 18:00 발표 시각을 사용
             if (now.getHour() < 6) {
                 // 06:00 이전인 경우, 전날 18:00 발표 시각을 사용
-                tmFc = now.minusDays(1).format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "1800";
+                issuedAt = now.toLocalDate().minusDays(1).atTime(18, 0);
             } else {
                 // 18:00 이후인 경우, 당일 18:00 발표 시각을 사용
-                tmFc = now.format(DateTimeFormatter.ofPattern("yyyyMMdd")) + "1800";
+                issuedAt = now.toLocalDate().atTime(18, 0);
             }
         }
 
+        String tmFc = issuedAt.format(DateTimeFormatter.ofPattern("yyyyMMddHHmm"));
+        long expiresAt = issuedAt.plusHours(12).atZone(KmaBaseTime.KST).toInstant().toEpochMilli();
+        return new RegionKey(regId, tmFc, expiresAt);
+    }
+
+    private MidTermForecastDTO fetchMidTermLandFcst(RegionKey key) {
         try {
-            String url = API_URL + "?serviceKey=" + apiKey
-                    + "&pageNo=1&numOfRows=10&dataType=JSON"
-                    + "&regId=" + regId
-                    + "&tmFc=" + tmFc;
-
-            URI uri = new URI(url);
-
-            ResponseEntity<String> response = restTemplate.getForEntity(uri, String.class);
-            if (response.getStatusCode() == HttpStatus.OK) {
-                String responseBody = response.getBody();
-                if (responseBody.contains("SERVICE_KEY_IS_NOT_REGISTERED_ERROR")) {
-                    System.err.println("API Key is not registered or incorrect.");
+            URI uri = new URI(buildUrl(key));
+
+            // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱
+            return restTemplate.execute(uri, HttpMethod.GET, null, response -> {
+                if (response.getStatusCode() == HttpStatus.OK) {
+                    return KmaResponseParser.parseMidLandFcst(response.getBody());
+                } else {
+                    log.warn("Failed to fetch mid-term land forecast for {} ({}): {}", key.regId(), key.tmFc(), response.getStatusCode());
                     return null;
                 }
-                return parseMidTermLandFcstResponse(responseBody);
-            } else {
-                // 에러 처리
-                System.err.println("Failed to fetch data from API: " + response.getStatusCode());
-                return null;
-            }
+            });
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("Failed to fetch mid-term land forecast for {} ({})", key.regId(), key.tmFc(), e);
             return null;
         }
     }
 
-    private MidTermForecastDTO parseMidTermLandFcstResponse(String responseBody) {
-        MidTermForecastDTO dto = new MidTermForecastDTO();
-
-        try {
-            JSONObject json;
-            if (responseBody.trim().startsWith("<")) {
-                json = XML.toJSONObject(responseBody);
-            } else {
-                json = new JSONObject(responseBody);
-            }
-
-            if (json.has("OpenAPI_ServiceResponse")) {
-                JSONObject serviceResponse = json.getJSONObject("OpenAPI_ServiceResponse");
-                if (serviceResponse.has("cmmMsgHeader")) {
-                    JSONObject cmmMsgHeader = serviceResponse.getJSONObject("cmmMsgHeader");
-                    String errMsg = cmmMsgHeader.optString("errMsg", "Unknown error");
-                    System.err.println("Error in API response: " + errMsg);
-                    return null;  // 또는 적절히 예외를 던지거나 에러 처리를 수행
-                }
-            }
-
-            // 변환된 JSON에서 필요한 데이터 추출 (기존 JSON 파싱 로직 사용)
-            parseJsonResponse(json, dto);
-        } catch (JSONException e) {
-            e.printStackTrace();
-        }
-
-        return dto;
+    private String buildUrl(RegionKey key) {
+        return API_URL + "?serviceKey=" + apiKey
+                + "&pageNo=1&numOfRows=10&dataType=JSON"
+                + "&regId=" + key.regId()
+                + "&tmFc=" + key.tmFc();
     }
 
-    private void parseJsonResponse(JSONObject json, MidTermForecastDTO dto) throws JSONException {
-        JSONObject response = json.getJSONObject("response");
-        JSONObject body = response.getJSONObject("body");
-        JSONObject items = body.getJSONObject("items");
-
-        // 3일차부터 7일차까지 데이터 파싱
-        for (int day = 3; day <= 7; day++) {
-            // 오전 날씨
-            String morningWeather = items.optString("wf" + day + "Am", "정보 없음");
-
-            // 오후 날씨
-            String eveningWeather = items.optString("wf" + day + "Pm", "정보 없음");
-
-            // 오전 강수 확률
-            Integer morningRainProb = items.has("rnSt" + day + "Am") ? items.optInt("rnSt" + day + "Am", -1) : null;
-
-            // 오후 강수 확률
-            Integer eveningRainProb = items.has("rnSt" + day + "Pm") ? items.optInt("rnSt" + day + "Pm", -1) : null;
-
-            // 강수량 계산 (만약 morningRainProb 또는 eveningRainProb가 null인 경우 -1을 기본값으로 사용)
-            int rainfall = (morningRainProb != null ? morningRainProb : -1) + (eveningRainProb != null ? eveningRainProb : -1);
-
-            // 온도와 습도 (기본 값 설정)
-            int temperature = -1;
-            int humidity = -1;
-
-            // 날씨 상태
-            String weatherCondition = morningWeather.equals(eveningWeather) ? morningWeather : morningWeather + " / " + eveningWeather;
-
-            // DTO에 데이터를 저장
-            dto.addForecast(day, "", morningWeather, eveningWeather, rainfall, temperature, humidity, weatherCondition);
-        }
+    private record RegionKey(String regId, String tmFc, long expiresAt) {
     }
-
 }
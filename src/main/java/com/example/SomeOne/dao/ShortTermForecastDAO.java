@@ -1,16 +1,17 @@
 package com.example.SomeOne.dao;
 
 import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.KmaBaseTime;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
-
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Repository
 public class ShortTermForecastDAO {
@@ -20,93 +21,75 @@ public class ShortTermForecastDAO {
 
     private final String API_URL = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst";
 
+    private static final long ERROR_RESPONSE_TTL_MILLIS = 60_000;
+
+    // 단기예보 캐시 (격자 + 발표 기준 시각 단위, 다음 발표 시각에 만료)
+    private final CoalescingCache<GridKey, ShortTermForecastDTO> cache =
+            new CoalescingCache<>("vilageFcst", 2000, (key, value, now) ->
+                    "00".equals(value.getResultCode())
+                            ? key.expiresAt()
+                            : Math.min(key.expiresAt(), now + ERROR_RESPONSE_TTL_MILLIS)); // 오류 응답은 잠깐만 보관
+
+    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+
+    public ShortTermForecastDAO(RestTemplate restTemplate, WebClient webClient) {
+        this.restTemplate = restTemplate;
+        this.webClient = webClient;
+    }
+
     public ShortTermForecastDTO getShortTermForecast(int nx, int ny) {
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 현재 날짜와 시간을 가져와서 base_date와 base_time에 설정
-        LocalDateTime now = LocalDateTime.now();
-        String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        String baseTime;
-        int minute = now.getMinute();
-        if (minute >= 10) {
-            // 10분 이후에 요청 시, 현재 시간을 사용
-            baseTime = now.format(DateTimeFormatter.ofPattern("HH00"));
-        } else {
-            // 10분 이전에 요청 시, 이전 시간을 사용
-            baseTime = now.minusHours(1).format(DateTimeFormatter.ofPattern("HH00"));
-        }
+        return cache.get(currentKey(nx, ny), this::fetchShortTermForecast);
+    }
 
-        String url = API_URL + "?serviceKey=" + apiKey
-                + "&numOfRows=10&pageNo=1&dataType=JSON"
-                + "&base_date=" + baseDate
-                + "&base_time=" + baseTime
-                + "&nx=" + nx
-                + "&ny=" + ny;
-
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-        if (response.getStatusCode() == HttpStatus.OK) {
-            return parseShortTermForecastResponse(response.getBody());
-        } else {
-            // 에러 처리
-            return null;
-        }
+    // 논블로킹 조회 (캐시는 동기 조회와 공유)
+    public Mono<ShortTermForecastDTO> getShortTermForecastAsync(int nx, int ny) {
+        return Mono.fromFuture(() -> cache.getAsync(currentKey(nx, ny), key -> webClient.get()
+                .uri(buildUrl(key))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .map(buffer -> KmaResponseParser.parseVilageFcst(buffer.asInputStream(true)))
+                .toFuture()));
     }
 
-    private ShortTermForecastDTO parseShortTermForecastResponse(String responseBody) {
-        ShortTermForecastDTO dto = new ShortTermForecastDTO();
-        try {
-            JSONObject json = new JSONObject(responseBody);
-            JSONObject response = json.getJSONObject("response");
-            JSONObject header = response.getJSONObject("header");
-            JSONObject body = response.getJSONObject("body");
-            JSONArray items = body.getJSONObject("items").getJSONArray("item");
-
-            // Header 정보 추출
-            dto.setResultCode(header.getString("resultCode"));
-            dto.setResultMsg(header.getString("resultMsg"));
-
-            // Body 정보 추출
-            dto.setBaseDate(body.getString("baseDate"));
-            dto.setBaseTime(body.getString("baseTime"));
-
-            for (int i = 0; i < items.length(); i++) {
-                JSONObject item = items.getJSONObject(i);
-                String category = item.getString("category");
-                String obsrValue = item.getString("obsrValue");
-
-                switch (category) {
-                    case "TMP": // 온도
-                        dto.setTemperature(Double.parseDouble(obsrValue));
-                        break;
-                    case "POP": // 강수확률
-                        dto.setRainfall(Double.parseDouble(obsrValue));
-                        break;
-                    case "REH": // 습도
-                        dto.setHumidity(Double.parseDouble(obsrValue));
-                        break;
-                    case "SKY": // 날씨 상태
-                        dto.setWeatherCondition(parseWeatherCondition(obsrValue));
-                        break;
-                    // 필요한 경우 다른 필드 추가
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+    // 캐시를 거치지 않고 최신 발표 자료를 받아 캐시에 저장 (사전 적재용)
+    public ShortTermForecastDTO refreshShortTermForecast(int nx, int ny) {
+        GridKey key = currentKey(nx, ny);
+        ShortTermForecastDTO dto = fetchShortTermForecast(key);
+        if (dto != null) {
+            cache.put(key, dto);
         }
         return dto;
     }
 
-    private String parseWeatherCondition(String code) {
-        switch (code) {
-            case "1":
-                return "맑음";
-            case "3":
-                return "구름 많음";
-            case "4":
-                return "흐림";
-            default:
-                return "알 수 없음";
-        }
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private GridKey currentKey(int nx, int ny) {
+        // 10분 이전에 요청 시 이전 시간을 사용
+        KmaBaseTime baseTime = KmaBaseTime.now();
+        return new GridKey(nx, ny, baseTime.getBaseDate(), baseTime.getBaseTime(),
+                baseTime.getNextPublishEpochMillis());
+    }
+
+    private ShortTermForecastDTO fetchShortTermForecast(GridKey key) {
+        // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱
+        return restTemplate.execute(buildUrl(key), HttpMethod.GET, null, response ->
+                response.getStatusCode() == HttpStatus.OK
+                        ? KmaResponseParser.parseVilageFcst(response.getBody())
+                        : null); // 에러 처리
+    }
+
+    private String buildUrl(GridKey key) {
+        return API_URL + "?serviceKey=" + apiKey
+                + "&numOfRows=10&pageNo=1&dataType=JSON"
+                + "&base_date=" + key.baseDate()
+                + "&base_time=" + key.baseTime()
+                + "&nx=" + key.nx()
+                + "&ny=" + key.ny();
+    }
+
+    private record GridKey(int nx, int ny, String baseDate, String baseTime, long expiresAt) {
     }
 }
@@ -1,24 +1,22 @@
 package com.example.SomeOne.dao;
 
 import com.example.SomeOne.dto.weather.WeatherNowDTO;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.springframework.beans.factory.annotation.Value;
-import org.json.JSONArray;
-import org.json.JSONObject;
-import org.springframework.http.HttpHeaders;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.KmaBaseTime;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 @Repository
 public class WeatherDAO {
@@ -28,152 +26,91 @@ public class WeatherDAO {
 
     private final String API_URL = "https://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getUltraSrtNcst";
 
+    private static final long ERROR_RESPONSE_TTL_MILLIS = 60_000;
+
+    // 초단기실황 캐시 (격자 + 발표 기준 시각 단위, 다음 발표 시각에 만료)
+    private final CoalescingCache<GridKey, WeatherNowDTO> cache =
+            new CoalescingCache<>("ultraSrtNcst", 2000, (key, value, now) ->
+                    "00".equals(value.getResultCode())
+                            ? key.expiresAt()
+                            : Math.min(key.expiresAt(), now + ERROR_RESPONSE_TTL_MILLIS)); // 오류 응답은 잠깐만 보관
+
+    private final RestTemplate restTemplate;
+    private final WebClient webClient;
+
+    public WeatherDAO(RestTemplate restTemplate, WebClient webClient) {
+        this.restTemplate = restTemplate;
+        this.webClient = webClient;
+    }
+
     public WeatherNowDTO getCurrentWeather(int nx, int ny) {
-        String SERVICE_KEY = apikey; // 서비스 키 설정
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 현재 날짜와 시간을 가져와서 base_date와 base_time에 설정
-        LocalDateTime now = LocalDateTime.now();
-        String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        String baseTime;
-        int minute = now.getMinute();
-        if (minute >= 10) {
-            // 예: 10분 이후에 요청 시, 현재 시간을 사용
-            baseTime = now.format(DateTimeFormatter.ofPattern("HH00"));
-        } else {
-            baseTime = now.minusHours(1).format(DateTimeFormatter.ofPattern("HH00"));
-        }
+        return cache.get(currentKey(nx, ny), this::fetchCurrentWeather);
+    }
 
-        URI url = UriComponentsBuilder.fromHttpUrl(API_URL)
-                .queryParam("serviceKey", SERVICE_KEY)
-                .queryParam("numOfRows", 10)
-                .queryParam("pageNo", 1)
-                .queryParam("dataType", "JSON")
-                .queryParam("base_date", baseDate)
-                .queryParam("base_time", baseTime)
-                .queryParam("nx", nx)
-                .queryParam("ny", ny)
-                .build(true)  // true를 사용하여 인코딩 문제 방지
-                .toUri();
+    // 논블로킹 조회 (캐시는 동기 조회와 공유)
+    public Mono<WeatherNowDTO> getCurrentWeatherAsync(int nx, int ny) {
+        return Mono.fromFuture(() -> cache.getAsync(currentKey(nx, ny), key -> webClient.get()
+                .uri(buildUri(key))
+                .retrieve()
+                .bodyToMono(DataBuffer.class)
+                .map(buffer -> KmaResponseParser.parseUltraSrtNcst(buffer.asInputStream(true)))
+                .toFuture()));
+    }
 
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-        if (response.getStatusCode() == HttpStatus.OK) {
-            return parseWeatherResponse(response.getBody());
-        } else {
-            // 에러 처리
+    public WeatherNowDTO getWeather(Long islandId) {
+        // islandId에 따라 nx, ny 매핑
+        IslandWeatherRegion region = IslandWeatherRegion.findByIslandId(islandId);
+        if (region == null) {
             return null;
         }
+        return getCurrentWeather(region.getNx(), region.getNy());
     }
 
-    public WeatherNowDTO getWeather(Long islandId) {
-        String SERVICE_KEY = apikey; // 서비스 키 설정
-        RestTemplate restTemplate = new RestTemplate();
-
-        // 현재 날짜와 시간을 가져와서 base_date와 base_time에 설정
-        LocalDateTime now = LocalDateTime.now();
-        String baseDate = now.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-
-        String baseTime;
-        int minute = now.getMinute();
-        if (minute >= 10) {
-            // 예: 10분 이후에 요청 시, 현재 시간을 사용
-            baseTime = now.format(DateTimeFormatter.ofPattern("HH00"));
-        } else {
-            baseTime = now.minusHours(1).format(DateTimeFormatter.ofPattern("HH00"));
+    // 캐시를 거치지 않고 최신 발표 자료를 받아 캐시에 저장 (사전 적재용)
+    public WeatherNowDTO refreshCurrentWeather(int nx, int ny) {
+        GridKey key = currentKey(nx, ny);
+        WeatherNowDTO dto = fetchCurrentWeather(key);
+        if (dto != null) {
+            cache.put(key, dto);
         }
+        return dto;
+    }
 
-        // islandId에 따라 nx, ny 매핑
-        int[] coordinates = getCoordinatesByIslandId(islandId);
-        if (coordinates == null) {
-            return null;
-        }
-        int nx = coordinates[0];
-        int ny = coordinates[1];
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    private GridKey currentKey(int nx, int ny) {
+        KmaBaseTime baseTime = KmaBaseTime.now();
+        return new GridKey(nx, ny, baseTime.getBaseDate(), baseTime.getBaseTime(),
+                baseTime.getNextPublishEpochMillis());
+    }
+
+    private WeatherNowDTO fetchCurrentWeather(GridKey key) {
+        // 응답 본문을 문자열로 만들지 않고 스트림에서 바로 파싱
+        return restTemplate.execute(buildUri(key), HttpMethod.GET, null, response ->
+                response.getStatusCode() == HttpStatus.OK
+                        ? KmaResponseParser.parseUltraSrtNcst(response.getBody())
+                        : null); // 에러 처리
+    }
+
+    private URI buildUri(GridKey key) {
+        String SERVICE_KEY = apikey; // 서비스 키 설정
 
-        URI url = UriComponentsBuilder.fromHttpUrl(API_URL)
+        return UriComponentsBuilder.fromHttpUrl(API_URL)
                 .queryParam("serviceKey", SERVICE_KEY)
                 .queryParam("numOfRows", 10)
                 .queryParam("pageNo", 1)
                 .queryParam("dataType", "JSON")
-                .queryParam("base_date", baseDate)
-                .queryParam("base_time", baseTime)
-                .queryParam("nx", nx)
-                .queryParam("ny", ny)
+                .queryParam("base_date", key.baseDate())
+                .queryParam("base_time", key.baseTime())
+                .queryParam("nx", key.nx())
+                .queryParam("ny", key.ny())
                 .build(true)  // true를 사용하여 인코딩 문제 방지
                 .toUri();
-
-        ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-        if (response.getStatusCode() == HttpStatus.OK) {
-            return parseWeatherResponse(response.getBody());
-        } else {
-            // 에러 처리
-            return null;
-        }
-    }
-
-    private int[] getCoordinatesByIslandId(Long islandId) {
-        switch (islandId.intValue()) {
-            case 1: return new int[]{51, 130}; // 강화도
-            case 2: return new int[]{90, 69};  // 거제도
-            case 3: return new int[]{77, 68};  // 남해도
-            case 4: return new int[]{56, 92};  // 선유도
-            case 5: return new int[]{52, 125}; // 영종도
-            case 6: return new int[]{57, 56};  // 완도
-            case 7: return new int[]{84, 63};  // 욕지도
-            case 8: return new int[]{52, 38};  // 제주도
-            case 9: return new int[]{48, 59};  // 진도
-            case 10: return new int[]{33, 64}; // 흑산도
-            default: return null;
-        }
     }
 
-
-    private WeatherNowDTO parseWeatherResponse(String responseBody) {
-        WeatherNowDTO dto = new WeatherNowDTO();
-        try {
-            // JSON 응답 처리
-            JSONObject json = new JSONObject(responseBody);
-            JSONObject response = json.getJSONObject("response");
-            JSONObject header = response.getJSONObject("header");
-            JSONObject body = response.getJSONObject("body");
-            JSONArray items = body.getJSONObject("items").getJSONArray("item");
-
-            // Header 정보 추출
-            dto.setResultCode(header.getString("resultCode"));
-            dto.setResultMsg(header.getString("resultMsg"));
-
-            // 첫 번째 아이템에서 baseDate와 baseTime 추출
-            if (items.length() > 0) {
-                JSONObject firstItem = items.getJSONObject(0);
-                dto.setBaseDate(firstItem.getString("baseDate"));
-                dto.setBaseTime(firstItem.getString("baseTime"));
-            }
-
-            // Body 정보 추출
-            for (int i = 0; i < items.length(); i++) {
-                JSONObject item = items.getJSONObject(i);
-                String category = item.getString("category");
-                String obsrValue = item.getString("obsrValue");
-
-                // 필요한 정보만 처리 (온도, 강수량, 습도 등)
-                switch (category) {
-                    case "T1H": // 온도
-                        dto.setTemperature(Double.parseDouble(obsrValue));
-                        break;
-                    case "RN1": // 강수량
-                        dto.setRainfall(Double.parseDouble(obsrValue));
-                        break;
-                    case "REH": // 습도
-                        dto.setHumidity(Double.parseDouble(obsrValue));
-                        break;
-                    // 필요한 경우 다른 필드 추가
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return dto;
+    private record GridKey(int nx, int ny, String baseDate, String baseTime, long expiresAt) {
     }
 
     private String parseWeatherCondition(String code) {
@@ -0,0 +1,104 @@
+package com.example.SomeOne.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 장소별 평점 집계 (리뷰 작성/수정/삭제/신고 시 증분 갱신, 신고된 리뷰는 제외)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_business_rating_stats_average", columnList = "average_rating"))
+public class BusinessRatingStats {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    @Id
+    private Long businessId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "business_id")
+    private Businesses business;
+
+    private long reviewCount;
+    private long ratingSum;
+
+    @Column(name = "average_rating")
+    private double averageRating;
+
+    // 평점별 리뷰 수 (1~5점)
+    private long rating1Count;
+    private long rating2Count;
+    private long rating3Count;
+    private long rating4Count;
+    private long rating5Count;
+
+    public BusinessRatingStats(Businesses business) {
+        this.business = business;
+    }
+
+    public void addRating(int rating) {
+        adjust(rating, 1);
+    }
+
+    public void removeRating(int rating) {
+        adjust(rating, -1);
+    }
+
+    public void changeRating(int oldRating, int newRating) {
+        adjust(oldRating, -1);
+        adjust(newRating, 1);
+    }
+
+    // 재계산 결과로 덮어쓰기 (histogram[0] = 1점 리뷰 수)
+    public void replace(long[] histogram, long ratingSum) {
+        this.rating1Count = histogram[0];
+        this.rating2Count = histogram[1];
+        this.rating3Count = histogram[2];
+        this.rating4Count = histogram[3];
+        this.rating5Count = histogram[4];
+        this.reviewCount = rating1Count + rating2Count + rating3Count + rating4Count + rating5Count;
+        this.ratingSum = ratingSum;
+        recalculateAverage();
+    }
+
+    public List<Long> getHistogram() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+
+    private void adjust(int rating, int delta) {
+        switch (bucket(rating)) {
+            case 1:
+                rating1Count = Math.max(0, rating1Count + delta);
+                break;
+            case 2:
+                rating2Count = Math.max(0, rating2Count + delta);
+                break;
+            case 3:
+                rating3Count = Math.max(0, rating3Count + delta);
+                break;
+            case 4:
+                rating4Count = Math.max(0, rating4Count + delta);
+                break;
+            default:
+                rating5Count = Math.max(0, rating5Count + delta);
+                break;
+        }
+        reviewCount = Math.max(0, reviewCount + delta);
+        ratingSum = reviewCount == 0 ? 0 : ratingSum + (long) rating * delta;
+        recalculateAverage();
+    }
+
+    private void recalculateAverage() {
+        this.averageRating = reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+    }
+
+    // 범위를 벗어난 평점은 가까운 구간에 집계
+    public static int bucket(int rating) {
+        return Math.max(MIN_RATING, Math.min(MAX_RATING, rating));
+    }
+}
@@ -5,6 +5,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Entity
 @Getter
 @Setter
@@ -21,8 +26,29 @@ public class BusinessReviewImages {
 
     private String imageUrl;
 
+    // 비동기로 생성되는 변환본 (생성 전에는 null)
+    private String thumbnailUrl; // 긴 변 320px
+    private String feedUrl;      // 긴 변 1080px
+    private String fullUrl;      // 긴 변 2048px
+
     public BusinessReviewImages(BusinessReviews review, String imageUrl) {
         this.review = review;
         this.imageUrl = imageUrl;
     }
+
+    // 변환본이 아직 없으면 원본 URL
+    public String getThumbnailOrOriginalUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getFullOrOriginalUrl() {
+        return fullUrl != null ? fullUrl : imageUrl;
+    }
+
+    // S3에 저장된 원본과 변환본 URL 전체 (삭제용)
+    public List<String> getStoredUrls() {
+        return Stream.of(imageUrl, thumbnailUrl, feedUrl, fullUrl)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
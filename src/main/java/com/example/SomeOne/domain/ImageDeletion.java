@@ -0,0 +1,42 @@
+package com.example.SomeOne.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 삭제 대기 중인 S3 객체 (이미지 행을 지우는 트랜잭션에서 함께 기록하고, 백그라운드 작업이 나중에 S3에서 삭제)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(indexes = @Index(name = "idx_image_deletion_next_attempt", columnList = "next_attempt_at"))
+public class ImageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 1024)
+    private String objectKey;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    public ImageDeletion(String objectKey, LocalDateTime now) {
+        this.objectKey = objectKey;
+        this.nextAttemptAt = now;
+        this.createdAt = now;
+    }
+
+    // 실패 시 다음 시도를 지수적으로 미룸 (최대 maxDelayMinutes)
+    public void retryLater(LocalDateTime now, long maxDelayMinutes) {
+        attempts++;
+        long delayMinutes = Math.min(maxDelayMinutes, 1L << Math.min(attempts, 20));
+        this.nextAttemptAt = now.plusMinutes(delayMinutes);
+    }
+}
@@ -3,6 +3,11 @@ package com.example.SomeOne.domain;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 @Entity
 @Getter
 @Setter
@@ -17,6 +22,11 @@ public class RecordImages {
 
     private String imageUrl;
 
+    // 비동기로 생성되는 변환본 (생성 전에는 null)
+    private String thumbnailUrl; // 긴 변 320px
+    private String feedUrl;      // 긴 변 1080px
+    private String fullUrl;      // 긴 변 2048px
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "record_id")
     private TravelRecords record;
@@ -30,4 +40,20 @@ public class RecordImages {
             record.getRecordImages().add(this);
         }
     }
+
+    // 변환본이 아직 없으면 원본 URL
+    public String getThumbnailOrOriginalUrl() {
+        return thumbnailUrl != null ? thumbnailUrl : imageUrl;
+    }
+
+    public String getFullOrOriginalUrl() {
+        return fullUrl != null ? fullUrl : imageUrl;
+    }
+
+    // S3에 저장된 원본과 변환본 URL 전체 (삭제용)
+    public List<String> getStoredUrls() {
+        return Stream.of(imageUrl, thumbnailUrl, feedUrl, fullUrl)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.example.SomeOne.dto.Businesses.request;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.List;
+
 @Getter
 @Setter
 public class CreateBusinessReviewRequest {
@@ -11,4 +13,5 @@ public class CreateBusinessReviewRequest {
     private Long userId;
     private Integer rating;
     private String businessReview;
+    private List<String> imageKeys; // S3에 직접 업로드한 이미지 키 (/api/images/upload-slots)
 }
\ No newline at end of file
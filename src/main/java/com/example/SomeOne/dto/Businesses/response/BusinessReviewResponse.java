@@ -23,6 +23,7 @@ public class BusinessReviewResponse {
     private Integer rating;
     private String businessReview;
     private List<String> imageUrls; // 기존 이미지 URL 리스트
+    private List<String> thumbnailUrls; // 목록용 썸네일 (아직 없으면 원본)
     private String xAddress; // x 좌표
     private String yAddress; // y 좌표
     private List<TravelDateImages> travelDateImages; // 날짜별 이미지 리스트
@@ -31,7 +32,10 @@ public class BusinessReviewResponse {
     public static BusinessReviewResponse fromEntity(BusinessReviews review, List<BusinessReviewImages> reviewImages, List<TravelDateImages> travelDateImages) {
         // 전체 이미지 URL 리스트 생성
         List<String> imageUrls = reviewImages.stream()
-                .map(BusinessReviewImages::getImageUrl)
+                .map(BusinessReviewImages::getFullOrOriginalUrl)
+                .collect(Collectors.toList());
+        List<String> thumbnailUrls = reviewImages.stream()
+                .map(BusinessReviewImages::getThumbnailOrOriginalUrl)
                 .collect(Collectors.toList());
 
         // Businesses 엔티티에서 x, y 좌표를 가져옴
@@ -46,6 +50,7 @@ public class BusinessReviewResponse {
                 .rating(review.getRating())
                 .businessReview(review.getBusinessReview())
                 .imageUrls(imageUrls)  // 기존 이미지 URL 리스트 설정
+                .thumbnailUrls(thumbnailUrls)
                 .xAddress(xAddress)    // x 좌표 설정
                 .yAddress(yAddress)    // y 좌표 설정
                 .travelDateImages(travelDateImages) // 날짜별 이미지 리스트 설정
@@ -0,0 +1,16 @@
+package com.example.SomeOne.dto.Businesses.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MapMarkersResponse {
+    private int zoom;
+    private List<MarkerClusterResponse> clusters; // 여러 장소가 묶인 클러스터
+    private List<BusinessResponse> markers;       // 개별 장소 마커
+}
@@ -0,0 +1,18 @@
+package com.example.SomeOne.dto.Businesses.response;
+
+import com.example.SomeOne.domain.enums.Business_category;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkerClusterResponse {
+    private double mapX; // 클러스터 중심 경도
+    private double mapY; // 클러스터 중심 위도
+    private int count;
+    private Map<Business_category, Integer> categoryCounts;
+}
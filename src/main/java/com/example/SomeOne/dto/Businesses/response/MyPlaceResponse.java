@@ -0,0 +1,34 @@
+package com.example.SomeOne.dto.Businesses.response;
+
+import com.example.SomeOne.domain.enums.Business_category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// 내 여행 장소 (장소별로 한 번만, 방문 횟수와 마지막 방문일 포함)
+@Getter
+@AllArgsConstructor
+public class MyPlaceResponse {
+    private Long businessId;
+    private String businessName;
+    private Business_category businessType;
+    private String address;
+    private String mapX;
+    private String mapY;
+    private String imageUrl;
+    private Long visitCount;
+    private LocalDate lastVisitDate;
+    private boolean isFavorite;
+
+    // 집계 쿼리용
+    public MyPlaceResponse(Long businessId, String businessName, Business_category businessType, String address,
+                           String mapX, String mapY, String imageUrl, Long visitCount, LocalDate lastVisitDate) {
+        this(businessId, businessName, businessType, address, mapX, mapY, imageUrl, visitCount, lastVisitDate, false);
+    }
+
+    public MyPlaceResponse withFavorite(boolean isFavorite) {
+        return new MyPlaceResponse(businessId, businessName, businessType, address, mapX, mapY, imageUrl,
+                visitCount, lastVisitDate, isFavorite);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.SomeOne.dto.Businesses.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class MyPlacesPageResponse {
+    private List<MyPlaceResponse> places;
+    private String nextCursor; // 마지막 페이지면 null
+}
@@ -16,4 +16,5 @@ public class PopularityPlaceResponse {
     private String imgUrl;
     private Double rating;
     private Boolean status;
+    private Long reviewCount;
 }
@@ -0,0 +1,13 @@
+package com.example.SomeOne.dto.Images.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class UploadSlotsRequest {
+
+    private List<String> contentTypes; // 업로드할 파일별 Content-Type (예: image/jpeg)
+}
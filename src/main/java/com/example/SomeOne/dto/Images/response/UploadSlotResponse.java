@@ -0,0 +1,16 @@
+package com.example.SomeOne.dto.Images.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+// S3에 직접 PUT할 수 있는 업로드 슬롯
+@Getter
+@AllArgsConstructor
+public class UploadSlotResponse {
+    private String key;                 // 업로드 후 기록/리뷰 저장 시 imageKeys로 전달
+    private String uploadUrl;           // presigned PUT URL
+    private Map<String, String> headers; // PUT 요청에 그대로 보내야 하는 헤더 (서명에 포함됨)
+    private long expiresAt;             // uploadUrl 만료 시각 (epoch millis)
+}
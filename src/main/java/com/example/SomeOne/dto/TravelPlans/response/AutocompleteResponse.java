@@ -0,0 +1,16 @@
+package com.example.SomeOne.dto.TravelPlans.response;
+
+import com.example.SomeOne.dto.Businesses.response.FindBusinessesResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutocompleteResponse {
+    private List<FindIslandResponse> islands;
+    private List<FindBusinessesResponse> places;
+}
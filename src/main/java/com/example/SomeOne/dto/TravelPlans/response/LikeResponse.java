@@ -9,4 +9,5 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class LikeResponse {
     private Boolean status;
+    private Long favoriteCount; // 변경 후 장소의 좋아요 수
 }
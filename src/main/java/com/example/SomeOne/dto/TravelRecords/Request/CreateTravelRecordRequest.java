@@ -24,6 +24,7 @@ public class CreateTravelRecordRequest {
 
     // 이미지 관련 필드
     private List<MultipartFile> newImages; // 새 이미지 목록
+    private List<String> imageKeys; // S3에 직접 업로드한 이미지 키 (/api/images/upload-slots)
 
     // 비즈니스 리뷰 관련 필드
     private List<Long> businessIds; // 비즈니스 ID 목록
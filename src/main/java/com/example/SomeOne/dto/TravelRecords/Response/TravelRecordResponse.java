@@ -19,6 +19,7 @@ public class TravelRecordResponse {
     private String recordTitle;
     private String recordContent;
     private List<String> imageUrls;
+    private List<String> thumbnailUrls; // 목록용 썸네일 (아직 없으면 원본)
     private Boolean publicPrivate;
 
     // TravelPlans 관련 정보 추가
@@ -38,13 +39,14 @@ public class TravelRecordResponse {
 
 
     @Builder
-    public TravelRecordResponse(Long recordId, String recordTitle, String recordContent, List<String> imageUrls, Boolean publicPrivate,
+    public TravelRecordResponse(Long recordId, String recordTitle, String recordContent, List<String> imageUrls, List<String> thumbnailUrls, Boolean publicPrivate,
                                 Long planId, String planName, LocalDate startDate, LocalDate endDate, String islandName, TravelStatus status,
                                 Long userId, Map<LocalDate, List<BusinessReviewResponse>> businessReviews, Double latitude, Double longitude) {
         this.recordId = recordId;
         this.recordTitle = recordTitle;
         this.recordContent = recordContent;
         this.imageUrls = imageUrls;
+        this.thumbnailUrls = thumbnailUrls;
         this.publicPrivate = publicPrivate;
         this.planId = planId;
         this.planName = planName;
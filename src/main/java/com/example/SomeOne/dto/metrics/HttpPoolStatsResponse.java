@@ -0,0 +1,28 @@
+package com.example.SomeOne.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.hc.core5.pool.PoolStats;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class HttpPoolStatsResponse {
+
+    private Stats total;
+    private Map<String, Stats> routes; // 호스트별 통계
+
+    @Getter
+    @AllArgsConstructor
+    public static class Stats {
+        private int leased;    // 사용 중인 연결
+        private int pending;   // 연결을 기다리는 요청
+        private int available; // 재사용 대기 중인 유휴 연결
+        private int max;
+
+        public static Stats from(PoolStats poolStats) {
+            return new Stats(poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(), poolStats.getMax());
+        }
+    }
+}
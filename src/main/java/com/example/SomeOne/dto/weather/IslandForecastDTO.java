@@ -0,0 +1,14 @@
+package com.example.SomeOne.dto.weather;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 섬 하나에 대한 초단기실황 + 단기예보 + 중기예보 묶음 (조회 실패한 항목은 null)
+@Getter
+@AllArgsConstructor
+public class IslandForecastDTO {
+    private Long islandId;
+    private WeatherNowDTO current;
+    private ShortTermForecastDTO shortTerm;
+    private MidTermForecastDTO midTerm;
+}
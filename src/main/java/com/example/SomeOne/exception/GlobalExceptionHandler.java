@@ -0,0 +1,17 @@
+package com.example.SomeOne.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+// 모든 컨트롤러 공통 예외 응답
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    // 잘못된 요청 값(page, size, 영역, 커서, 이미지 키 등)은 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+    }
+}
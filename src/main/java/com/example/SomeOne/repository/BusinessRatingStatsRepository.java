@@ -0,0 +1,18 @@
+package com.example.SomeOne.repository;
+
+import com.example.SomeOne.domain.BusinessRatingStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface BusinessRatingStatsRepository extends JpaRepository<BusinessRatingStats, Long> {
+
+    // 동시 리뷰 작성 시 집계가 어긋나지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM BusinessRatingStats s WHERE s.businessId = :businessId")
+    Optional<BusinessRatingStats> findForUpdate(@Param("businessId") Long businessId);
+}
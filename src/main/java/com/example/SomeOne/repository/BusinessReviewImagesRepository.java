@@ -3,12 +3,32 @@ package com.example.SomeOne.repository;
 import com.example.SomeOne.domain.BusinessReviewImages;
 import com.example.SomeOne.domain.BusinessReviews;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import jakarta.transaction.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface BusinessReviewImagesRepository extends JpaRepository<BusinessReviewImages, Long> {
     List<BusinessReviewImages> findByReview(BusinessReviews review);
+
+    // 여러 리뷰의 이미지를 한 번에 조회
+    @Query("SELECT i FROM BusinessReviewImages i WHERE i.review.reviewId IN :reviewIds ORDER BY i.imageId")
+    List<BusinessReviewImages> findByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // 변환본 URL 기록 (그 사이 이미지가 삭제됐으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE BusinessReviewImages i SET i.thumbnailUrl = :thumbnailUrl, i.feedUrl = :feedUrl, i.fullUrl = :fullUrl WHERE i.imageId = :imageId")
+    int updateRenditions(@Param("imageId") Long imageId, @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("feedUrl") String feedUrl, @Param("fullUrl") String fullUrl);
+
+    // 저장된 원본/변환본 URL 전체 (S3 고아 객체 정리용)
+    @Query("SELECT i.imageUrl, i.thumbnailUrl, i.feedUrl, i.fullUrl FROM BusinessReviewImages i")
+    List<Object[]> findAllStoredUrls();
     // 날짜를 기준으로 리뷰 이미지를 조회하는 메서드
     //List<BusinessReviewImages> findByReviewAndDate(BusinessReviews review, LocalDate date);
 }
\ No newline at end of file
@@ -4,11 +4,13 @@ import com.example.SomeOne.domain.BusinessReviews;
 import com.example.SomeOne.domain.Businesses;
 import com.example.SomeOne.domain.TravelRecords;
 import com.example.SomeOne.domain.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,13 @@ public interface BusinessReviewsRepository extends JpaRepository<BusinessReviews
 
     List<BusinessReviews> findByUser(Users user);
 
+    // 사용자가 작성한 신고되지 않은 리뷰, cursor(마지막으로 받은 reviewId)보다 작은 ID를 최신순으로
+    @Query("SELECT r FROM BusinessReviews r JOIN FETCH r.business " +
+            "WHERE r.user.users_id = :userId AND (r.isReported IS NULL OR r.isReported = false) " +
+            "AND (:cursor IS NULL OR r.reviewId < :cursor) ORDER BY r.reviewId DESC")
+    List<BusinessReviews> findUnreportedByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor,
+                                                 Pageable pageable);
+
     // 비즈니스, 유저, 날짜를 기준으로 리뷰를 조회하는 JPQL 쿼리 수정
     @Query("SELECT br FROM BusinessReviews br JOIN br.travelRecord tr JOIN tr.plan tp JOIN tp.travelPlaces t " +
             "WHERE br.business = :business AND br.user = :user AND t.date = :date")
@@ -30,5 +39,22 @@ public interface BusinessReviewsRepository extends JpaRepository<BusinessReviews
                                                            @Param("user") Users user,
                                                            @Param("date") LocalDate date);
 
+    // 여러 사용자/장소 조합의 리뷰를 한 번에 조회 (정확한 (사용자, 장소) 쌍은 호출 측에서 거름)
+    @Query("SELECT r FROM BusinessReviews r " +
+            "WHERE r.user.users_id IN :userIds AND r.business.business_id IN :businessIds")
+    List<BusinessReviews> findByUserIdInAndBusinessIdIn(@Param("userIds") Collection<Long> userIds,
+                                                        @Param("businessIds") Collection<Long> businessIds);
+
+    // 평점 집계 재계산용: 장소별, 평점별 리뷰 수 (신고된 리뷰 제외)
+    @Query("SELECT r.business.business_id, r.rating, COUNT(r) FROM BusinessReviews r " +
+            "WHERE r.isReported IS NULL OR r.isReported = false " +
+            "GROUP BY r.business.business_id, r.rating")
+    List<Object[]> countRatingsGroupByBusiness();
+
+    @Query("SELECT r.business.business_id, r.rating, COUNT(r) FROM BusinessReviews r " +
+            "WHERE r.business.business_id = :businessId AND (r.isReported IS NULL OR r.isReported = false) " +
+            "GROUP BY r.business.business_id, r.rating")
+    List<Object[]> countRatingsByBusinessId(@Param("businessId") Long businessId);
+
     //Optional<BusinessReviews> findByBusinessAndUserAndDate(Businesses business, Users user, LocalDate date);
 }
@@ -10,20 +10,18 @@ import java.util.List;
 
 public interface BusinessesRepository extends JpaRepository<Businesses, Long> {
 
-    @Query("SELECT b FROM Businesses b WHERE b.business_name LIKE %:keyword%")
-    List<Businesses> findByKeyword(@Param("keyword") String keyword);
+    // 검색 색인 적재용 (섬 이름까지 한 번에)
+    @Query("SELECT b FROM Businesses b LEFT JOIN FETCH b.island")
+    List<Businesses> findAllWithIsland();
 
     List<Businesses> findByIslandIdAndBusinessType(Long islandId, Business_category category);
 
     List<Businesses> findByIslandId(Long islandId);
 
-    @Query("SELECT b FROM Businesses b LEFT JOIN BusinessReviews r ON b.business_id = r.business.business_id " +
-            "WHERE b.island.id = :islandId AND b.businessType = :category GROUP BY b.business_id ORDER BY AVG(r.rating) DESC")
-    List<Businesses> findByIslandIdAndBusinessTypeOrderByRatingDesc(
-            @Param("islandId") Long islandId,
-            @Param("category") Business_category category);
-
-    @Query("SELECT AVG(r.rating) FROM BusinessReviews r WHERE r.business.business_id = :businessId")
-    Double findAverageRatingByBusinessId(@Param("businessId") Long businessId);
+    // 랭킹 적재용: 장소와 평점 집계 (집계가 없으면 null)
+    @Query("SELECT b, s FROM Businesses b LEFT JOIN BusinessRatingStats s ON s.business = b " +
+            "WHERE b.island.id = :islandId AND b.businessType = :category")
+    List<Object[]> findWithRatingStats(@Param("islandId") Long islandId,
+                                       @Param("category") Business_category category);
 
 }
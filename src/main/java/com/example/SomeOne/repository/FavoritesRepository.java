@@ -4,7 +4,12 @@ import com.example.SomeOne.domain.Businesses;
 import com.example.SomeOne.domain.Favorites;
 import com.example.SomeOne.domain.FavoritesId;
 import com.example.SomeOne.domain.Users;
+import com.example.SomeOne.domain.enums.Business_category;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -16,4 +21,40 @@ public interface FavoritesRepository extends JpaRepository<Favorites, FavoritesI
     Optional<Favorites> findByUserAndBusiness(Users user, Businesses business);
 
     List<Favorites> findByUser(Users user);
+
+    // 섬/카테고리별 장소의 좋아요 수 (businessId, count)
+    @Query("SELECT f.business.business_id, COUNT(f.user) FROM Favorites f " +
+            "WHERE f.business.island.id = :islandId AND f.business.businessType = :category " +
+            "GROUP BY f.business.business_id")
+    List<Object[]> countByIslandIdAndBusinessType(@Param("islandId") Long islandId,
+                                                  @Param("category") Business_category category);
+
+    // 사용자가 좋아요한 장소, cursor(마지막으로 받은 businessId)보다 작은 ID 순으로
+    @Query("SELECT f FROM Favorites f JOIN FETCH f.business b WHERE f.user.users_id = :userId " +
+            "AND (:cursor IS NULL OR b.business_id < :cursor) ORDER BY b.business_id DESC")
+    List<Favorites> findWithBusinessByUserId(@Param("userId") Long userId, @Param("cursor") Long cursor,
+                                             Pageable pageable);
+
+    // 장소별 좋아요 수 전체 (businessId, count)
+    @Query("SELECT f.business.business_id, COUNT(f.user) FROM Favorites f GROUP BY f.business.business_id")
+    List<Object[]> countGroupByBusiness();
+
+    // 사용자가 좋아요한 장소 ID 전체 (user_id 인덱스만 사용)
+    @Query("SELECT f.business.business_id FROM Favorites f WHERE f.user.users_id = :userId")
+    List<Long> findBusinessIdsByUserId(@Param("userId") Long userId);
+
+    // ID만으로 좋아요 추가 (이미 있으면 무시, 사용자/장소가 없으면 0 반환)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO favorites (user_id, business_id) VALUES (:userId, :businessId)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("businessId") Long businessId);
+
+    @Modifying
+    @Query("DELETE FROM Favorites f WHERE f.user.users_id = :userId AND f.business.business_id = :businessId")
+    int deleteByUserIdAndBusinessId(@Param("userId") Long userId, @Param("businessId") Long businessId);
+
+    @Query("SELECT COUNT(f.user) FROM Favorites f WHERE f.business.business_id = :businessId")
+    long countByBusinessId(@Param("businessId") Long businessId);
+
+    @Query("SELECT f FROM Favorites f JOIN FETCH f.business WHERE f.user.users_id = :userId AND f.business.business_id = :businessId")
+    Optional<Favorites> findWithBusinessByUserIdAndBusinessId(@Param("userId") Long userId, @Param("businessId") Long businessId);
 }
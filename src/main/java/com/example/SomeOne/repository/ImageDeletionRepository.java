@@ -0,0 +1,17 @@
+package com.example.SomeOne.repository;
+
+import com.example.SomeOne.domain.ImageDeletion;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    // 지금 삭제를 시도할 차례인 항목 (오래된 순)
+    @Query("SELECT d FROM ImageDeletion d WHERE d.nextAttemptAt <= :now ORDER BY d.id")
+    List<ImageDeletion> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -3,7 +3,24 @@ package com.example.SomeOne.repository;
 import com.example.SomeOne.domain.RecordImages;
 import com.example.SomeOne.domain.TravelRecords;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import jakarta.transaction.Transactional;
+
+import java.util.List;
 
 public interface RecordImagesRepository extends JpaRepository<RecordImages, Long> {
     void deleteAllByRecord(TravelRecords record);
+
+    // 변환본 URL 기록 (그 사이 이미지가 삭제됐으면 0 반환)
+    @Modifying
+    @Transactional
+    @Query("UPDATE RecordImages i SET i.thumbnailUrl = :thumbnailUrl, i.feedUrl = :feedUrl, i.fullUrl = :fullUrl WHERE i.imageId = :imageId")
+    int updateRenditions(@Param("imageId") Long imageId, @Param("thumbnailUrl") String thumbnailUrl,
+                         @Param("feedUrl") String feedUrl, @Param("fullUrl") String fullUrl);
+
+    // 저장된 원본/변환본 URL 전체 (S3 고아 객체 정리용)
+    @Query("SELECT i.imageUrl, i.thumbnailUrl, i.feedUrl, i.fullUrl FROM RecordImages i")
+    List<Object[]> findAllStoredUrls();
 }
\ No newline at end of file
@@ -4,11 +4,13 @@ import com.example.SomeOne.domain.Businesses;
 import com.example.SomeOne.domain.TravelPlace;
 import com.example.SomeOne.domain.TravelPlans;
 import com.example.SomeOne.domain.Users;
+import com.example.SomeOne.dto.Businesses.response.MyPlaceResponse;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface TravelPlaceRepository extends JpaRepository<TravelPlace, Long> {
@@ -18,16 +20,20 @@ public interface TravelPlaceRepository extends JpaRepository<TravelPlace, Long>
     List<TravelPlace> findAllByTravelPlans_PlanIdAndUserOrderByDateAsc(@Param("planId") Long planId, @Param("user") Users user);
     List<TravelPlace> findByTravelPlans_User(Users user);
 
-    @Query("SELECT tp FROM TravelPlace tp " +
-            "JOIN tp.travelPlans tp2 " +
-            "JOIN tp2.user u " +
-            "JOIN tp.businesses b " +
-            "WHERE u.id = :userId " +
-            "AND b.business_name LIKE %:businessName%")
-    List<TravelPlace> findByUserIdAndBusinessNameContaining(@Param("userId") Long userId, @Param("businessName") String businessName);
     List<TravelPlace> findByTravelPlans(TravelPlans travelPlans);
     // 비즈니스와 유저를 기반으로 TravelPlace 엔티티 조회
     List<TravelPlace> findByBusinessesAndTravelPlans_User(Businesses business, Users user);
-}
 
+    // 여러 여행 계획의 장소를 비즈니스와 함께 한 번에 조회
+    @Query("SELECT tp FROM TravelPlace tp JOIN FETCH tp.businesses WHERE tp.travelPlans.planId IN :planIds")
+    List<TravelPlace> findWithBusinessByPlanIdIn(@Param("planIds") Collection<Long> planIds);
 
+    // 사용자가 여행 계획에 담은 장소를 장소별로 묶어 방문 횟수, 마지막 방문일과 함께 조회
+    @Query("SELECT new com.example.SomeOne.dto.Businesses.response.MyPlaceResponse(" +
+            "b.business_id, b.business_name, b.businessType, b.address, b.x_address, b.y_address, b.img_url, " +
+            "COUNT(tp), MAX(tp.date)) " +
+            "FROM TravelPlace tp JOIN tp.businesses b JOIN tp.travelPlans p " +
+            "WHERE p.user.users_id = :userId " +
+            "GROUP BY b.business_id, b.business_name, b.businessType, b.address, b.x_address, b.y_address, b.img_url")
+    List<MyPlaceResponse> findMyPlacesByUserId(@Param("userId") Long userId);
+}
@@ -2,13 +2,31 @@ package com.example.SomeOne.repository;
 
 import com.example.SomeOne.domain.TravelPlans;
 import com.example.SomeOne.domain.Users;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface TravelPlansRepository extends JpaRepository<TravelPlans, Long> {
-    List<TravelPlans> findByUserOrderByStartDateDesc(Users user);
+
+    // 시작일 최신순 (같은 날이면 planId 역순), cursor 계획 다음부터
+    @Query("SELECT p FROM TravelPlans p JOIN FETCH p.island WHERE p.user = :user " +
+            "AND (:cursorDate IS NULL OR p.startDate < :cursorDate " +
+            "OR (p.startDate = :cursorDate AND p.planId < :cursorId)) " +
+            "ORDER BY p.startDate DESC, p.planId DESC")
+    List<TravelPlans> findPageByUser(@Param("user") Users user, @Param("cursorDate") LocalDate cursorDate,
+                                     @Param("cursorId") Long cursorId, Pageable pageable);
+
+    Optional<TravelPlans> findByPlanIdAndUser(Long planId, Users user);
+
     List<TravelPlans> findByStartDate(LocalDate startDate);
     List<TravelPlans> findByEndDate(LocalDate endDate);
+
+    // 섬별 여행 계획 수 (islandId, count)
+    @Query("SELECT p.island.id, COUNT(p) FROM TravelPlans p GROUP BY p.island.id")
+    List<Object[]> countGroupByIsland();
 }
@@ -4,6 +4,7 @@ import com.example.SomeOne.domain.TravelPlans;
 import com.example.SomeOne.domain.TravelRecords;
 import com.example.SomeOne.domain.Users;
 import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,15 +15,24 @@ import java.util.Optional;
 
 public interface TravelRecordsRepository extends JpaRepository<TravelRecords, Long> {
 
-    @Query("SELECT tr FROM TravelRecords tr LEFT JOIN FETCH tr.recordImages WHERE tr.user = :user ORDER BY tr.recordId DESC")
-    List<TravelRecords> findByUserWithImagesOrderByRecordIdDesc(@Param("user") Users user);
-
-    @Query("SELECT tr FROM TravelRecords tr LEFT JOIN FETCH tr.recordImages WHERE tr.plan = :plan ORDER BY tr.recordId DESC")
-    List<TravelRecords> findByPlanWithImagesOrderByRecordIdDesc(@Param("plan") TravelPlans plan);
-
-    List<TravelRecords> findByUserAndPublicPrivateOrderByRecordIdDesc(Users user, Boolean publicPrivate);
-
-    List<TravelRecords> findByPlanAndPublicPrivateOrderByRecordIdDesc(TravelPlans plan, Boolean publicPrivate);
+    // 키셋 페이지네이션: cursor(마지막으로 받은 recordId)보다 작은 기록 ID를 최신순으로 (cursor가 없으면 처음부터)
+    @Query("SELECT tr.recordId FROM TravelRecords tr WHERE tr.user = :user " +
+            "AND (:publicOnly = false OR tr.publicPrivate = true) " +
+            "AND (:cursor IS NULL OR tr.recordId < :cursor) ORDER BY tr.recordId DESC")
+    List<Long> findRecordIdsByUser(@Param("user") Users user, @Param("publicOnly") boolean publicOnly,
+                                   @Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("SELECT tr.recordId FROM TravelRecords tr WHERE tr.plan = :plan " +
+            "AND (:publicOnly = false OR tr.publicPrivate = true) " +
+            "AND (:cursor IS NULL OR tr.recordId < :cursor) ORDER BY tr.recordId DESC")
+    List<Long> findRecordIdsByPlan(@Param("plan") TravelPlans plan, @Param("publicOnly") boolean publicOnly,
+                                   @Param("cursor") Long cursor, Pageable pageable);
+
+    // 컬렉션 fetch join은 DB 페이지네이션이 안 되므로 ID로 페이지를 자른 뒤 계획, 섬, 작성자, 이미지와 함께 조회
+    @Query("SELECT DISTINCT tr FROM TravelRecords tr JOIN FETCH tr.plan p LEFT JOIN FETCH p.island " +
+            "JOIN FETCH tr.user LEFT JOIN FETCH tr.recordImages " +
+            "WHERE tr.recordId IN :recordIds ORDER BY tr.recordId DESC")
+    List<TravelRecords> findWithImagesByRecordIdIn(@Param("recordIds") List<Long> recordIds);
 
     @Query("SELECT tr FROM TravelRecords tr WHERE tr.plan.planId = :planId")
     List<TravelRecords> findByPlanId(@Param("planId") Long planId);
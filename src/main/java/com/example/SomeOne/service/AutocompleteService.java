@@ -0,0 +1,121 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.BusinessRatingStats;
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.domain.Island;
+import com.example.SomeOne.dto.Businesses.response.FindBusinessesResponse;
+import com.example.SomeOne.dto.TravelPlans.response.AutocompleteResponse;
+import com.example.SomeOne.dto.TravelPlans.response.FindIslandResponse;
+import com.example.SomeOne.repository.BusinessRatingStatsRepository;
+import com.example.SomeOne.repository.BusinessesRepository;
+import com.example.SomeOne.repository.FavoritesRepository;
+import com.example.SomeOne.repository.IslandRepository;
+import com.example.SomeOne.repository.TravelPlansRepository;
+import com.example.SomeOne.utils.AutocompleteKeys;
+import com.example.SomeOne.utils.NgramIndex;
+import com.example.SomeOne.utils.PrefixTrie;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 검색창 자동완성.
+ * 섬/장소 이름을 메모리의 접두어 트라이에 넣어 두고 입력할 때마다 DB 없이 인기순 상위 N개를 돌려준다.
+ * 이름 전체, 단어 시작 위치("우도 해녀식당"의 "해녀식당"), 한글 초성("ㅇㄷㅎㄴㅅㄷ")과 혼합 입력("우ㄷ")을 모두 키로 넣는다 (AutocompleteKeys).
+ * 인기도는 장소는 좋아요 수 + 리뷰 수, 섬은 여행 계획 수를 사용하며 주기적으로 전체를 다시 만든다.
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private final BusinessesRepository businessesRepository;
+    private final IslandRepository islandRepository;
+    private final FavoritesRepository favoritesRepository;
+    private final BusinessRatingStatsRepository ratingStatsRepository;
+    private final TravelPlansRepository travelPlansRepository;
+    private final int maxSuggestions;
+
+    private volatile PrefixTrie<PlaceSearchIndex.PlaceDocument> places = PrefixTrie.empty();
+    private volatile PrefixTrie<Island> islands = PrefixTrie.empty();
+
+    public AutocompleteService(BusinessesRepository businessesRepository,
+                               IslandRepository islandRepository,
+                               FavoritesRepository favoritesRepository,
+                               BusinessRatingStatsRepository ratingStatsRepository,
+                               TravelPlansRepository travelPlansRepository,
+                               @Value("${search.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.businessesRepository = businessesRepository;
+        this.islandRepository = islandRepository;
+        this.favoritesRepository = favoritesRepository;
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.travelPlansRepository = travelPlansRepository;
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public AutocompleteResponse autocomplete(String keyword, int size) {
+        String prefix = NgramIndex.normalize(keyword);
+        int limit = Math.max(1, Math.min(size, maxSuggestions));
+
+        List<FindIslandResponse> islandList = islands.suggest(prefix, limit).stream()
+                .map(island -> new FindIslandResponse(island.getId(), island.getName(),
+                        island.getAddress(), island.getImg_url())).collect(Collectors.toList());
+        List<FindBusinessesResponse> placeList = places.suggest(prefix, limit).stream()
+                .map(place -> new FindBusinessesResponse(place.businessId(), place.name(),
+                        place.address(), place.mapX(), place.mapY(), place.imgUrl(),
+                        place.category())).collect(Collectors.toList());
+        return new AutocompleteResponse(islandList, placeList);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.refresh-ms:600000}", initialDelayString = "${search.index.refresh-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        long start = System.currentTimeMillis();
+
+        // 장소 인기도: 좋아요 수 + 리뷰 수
+        Map<Long, Long> placeWeights = new HashMap<>();
+        for (Object[] row : favoritesRepository.countGroupByBusiness()) {
+            placeWeights.merge((Long) row[0], ((Number) row[1]).longValue(), Long::sum);
+        }
+        for (BusinessRatingStats stats : ratingStatsRepository.findAll()) {
+            placeWeights.merge(stats.getBusinessId(), stats.getReviewCount(), Long::sum);
+        }
+
+        PrefixTrie.Builder<PlaceSearchIndex.PlaceDocument> placeBuilder = PrefixTrie.builder(maxSuggestions);
+        for (Businesses business : businessesRepository.findAllWithIsland()) {
+            PlaceSearchIndex.PlaceDocument document = PlaceSearchIndex.PlaceDocument.from(business);
+            double weight = placeWeights.getOrDefault(business.getBusiness_id(), 0L);
+            for (String key : AutocompleteKeys.of(business.getBusiness_name())) {
+                placeBuilder.add(key, document, weight);
+            }
+        }
+
+        // 섬 인기도: 여행 계획 수
+        Map<Long, Long> islandWeights = new HashMap<>();
+        for (Object[] row : travelPlansRepository.countGroupByIsland()) {
+            islandWeights.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        PrefixTrie.Builder<Island> islandBuilder = PrefixTrie.builder(maxSuggestions);
+        for (Island island : islandRepository.findAll()) {
+            double weight = islandWeights.getOrDefault(island.getId(), 0L);
+            for (String key : AutocompleteKeys.of(island.getName())) {
+                islandBuilder.add(key, island, weight);
+            }
+        }
+
+        places = placeBuilder.build();
+        islands = islandBuilder.build();
+        log.info("Autocomplete index loaded: {} places, {} islands, {} ms",
+                places.size(), islands.size(), System.currentTimeMillis() - start);
+    }
+}
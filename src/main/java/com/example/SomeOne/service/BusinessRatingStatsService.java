@@ -0,0 +1,170 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.BusinessRatingStats;
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.repository.BusinessRatingStatsRepository;
+import com.example.SomeOne.repository.BusinessReviewsRepository;
+import com.example.SomeOne.repository.BusinessesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소별 평점 집계(BusinessRatingStats) 관리.
+ * 리뷰 변경 시 같은 트랜잭션에서 증분 갱신하고, 주기적으로 리뷰 테이블 기준으로 다시 계산해 어긋난 값을 바로잡는다.
+ */
+@Slf4j
+@Service
+public class BusinessRatingStatsService {
+
+    private final BusinessRatingStatsRepository ratingStatsRepository;
+    private final BusinessReviewsRepository businessReviewsRepository;
+    private final BusinessesRepository businessesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate requiresNewTransaction; // 집계 행 최초 생성용
+
+    public BusinessRatingStatsService(BusinessRatingStatsRepository ratingStatsRepository,
+                                      BusinessReviewsRepository businessReviewsRepository,
+                                      BusinessesRepository businessesRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      PlatformTransactionManager transactionManager) {
+        this.ratingStatsRepository = ratingStatsRepository;
+        this.businessReviewsRepository = businessReviewsRepository;
+        this.businessesRepository = businessesRepository;
+        this.eventPublisher = eventPublisher;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    public void addRating(Businesses business, int rating) {
+        BusinessRatingStats stats = lockOrCreate(business);
+        stats.addRating(rating);
+        publishChanged(stats);
+    }
+
+    @Transactional
+    public void removeRating(Businesses business, int rating) {
+        BusinessRatingStats stats = lockOrCreate(business);
+        stats.removeRating(rating);
+        publishChanged(stats);
+    }
+
+    @Transactional
+    public void changeRating(Businesses business, int oldRating, int newRating) {
+        if (oldRating != newRating) {
+            BusinessRatingStats stats = lockOrCreate(business);
+            stats.changeRating(oldRating, newRating);
+            publishChanged(stats);
+        }
+    }
+
+    // 한 장소의 집계를 리뷰 테이블 기준으로 다시 계산
+    @Transactional
+    public void rebuild(Long businessId) {
+        Businesses business = businessesRepository.getReferenceById(businessId);
+        long[] histogram = new long[BusinessRatingStats.MAX_RATING];
+        long ratingSum = accumulate(businessReviewsRepository.countRatingsByBusinessId(businessId), histogram);
+        BusinessRatingStats stats = lockOrCreate(business);
+        stats.replace(histogram, ratingSum);
+        publishChanged(stats);
+    }
+
+    // 전체 재계산 (매일 새벽, 누락되거나 어긋난 집계 복구)
+    @Transactional
+    @Scheduled(cron = "0 30 4 * * *", zone = "Asia/Seoul")
+    public void rebuildAll() {
+        long start = System.currentTimeMillis();
+
+        Map<Long, List<Object[]>> rowsByBusiness = new HashMap<>();
+        for (Object[] row : businessReviewsRepository.countRatingsGroupByBusiness()) {
+            rowsByBusiness.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add(row);
+        }
+
+        Map<Long, BusinessRatingStats> existing = new HashMap<>();
+        ratingStatsRepository.findAll().forEach(stats -> existing.put(stats.getBusinessId(), stats));
+
+        // 리뷰가 모두 사라진 장소는 0으로 초기화
+        existing.forEach((businessId, stats) -> {
+            if (!rowsByBusiness.containsKey(businessId)) {
+                stats.replace(new long[BusinessRatingStats.MAX_RATING], 0);
+            }
+        });
+
+        rowsByBusiness.forEach((businessId, rows) -> {
+            long[] histogram = new long[BusinessRatingStats.MAX_RATING];
+            long ratingSum = accumulate(rows, histogram);
+            BusinessRatingStats stats = existing.get(businessId);
+            if (stats == null) {
+                stats = ratingStatsRepository.save(
+                        new BusinessRatingStats(businessesRepository.getReferenceById(businessId)));
+                existing.put(businessId, stats);
+            }
+            stats.replace(histogram, ratingSum);
+        });
+        existing.values().forEach(this::publishChanged);
+
+        log.info("Business rating stats rebuilt: {} businesses, {} ms",
+                rowsByBusiness.size(), System.currentTimeMillis() - start);
+    }
+
+    // 집계 테이블이 비어 있으면(최초 배포) 기동 시 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        if (ratingStatsRepository.count() == 0) {
+            rebuildAll();
+        }
+    }
+
+    private void publishChanged(BusinessRatingStats stats) {
+        eventPublisher.publishEvent(
+                new RatingStatsChangedEvent(stats.getBusinessId(), stats.getReviewCount(), stats.getRatingSum()));
+    }
+
+    // 집계 행이 없으면 먼저 만들고 행 잠금을 건다.
+    // 없는 행에 FOR UPDATE를 먼저 걸면 MySQL 갭 락 때문에 동시 삽입끼리 교착되므로, 존재 여부는 잠금 없이 확인한다.
+    private BusinessRatingStats lockOrCreate(Businesses business) {
+        Long businessId = business.getBusiness_id();
+        if (!ratingStatsRepository.existsById(businessId)) {
+            createIfAbsent(businessId);
+        }
+        return ratingStatsRepository.findForUpdate(businessId)
+                .orElseThrow(() -> new IllegalStateException("Rating stats not found for business: " + businessId));
+    }
+
+    // 별도 트랜잭션에서 빈 집계 행 생성. 동시에 다른 요청이 먼저 만들었으면 중복 키 오류만 무시한다.
+    private void createIfAbsent(Long businessId) {
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> ratingStatsRepository.saveAndFlush(
+                    new BusinessRatingStats(businessesRepository.getReferenceById(businessId))));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Rating stats for business {} created concurrently", businessId);
+        }
+    }
+
+    // (businessId, rating, count) 행을 평점별 리뷰 수로 합산하고 평점 합계를 반환
+    private long accumulate(List<Object[]> rows, long[] histogram) {
+        long ratingSum = 0;
+        for (Object[] row : rows) {
+            int rating = ((Number) row[1]).intValue();
+            long count = ((Number) row[2]).longValue();
+            histogram[BusinessRatingStats.bucket(rating) - 1] += count;
+            ratingSum += (long) rating * count;
+        }
+        return ratingSum;
+    }
+}
@@ -7,9 +7,12 @@ import com.example.SomeOne.dto.Businesses.response.BusinessReviewResponse;
 import com.example.SomeOne.dto.TravelRecords.TravelDateImages;
 import com.example.SomeOne.exception.ResourceNotFoundException;
 import com.example.SomeOne.repository.*;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -26,6 +29,10 @@ public class BusinessReviewsService {
     private final UserRepository userRepository;
     private final S3ImageUploadService s3ImageUploadService;
     private final TravelPlaceRepository travelPlaceRepository;
+    private final BusinessRatingStatsService ratingStatsService;
+    private final ImageDeletionService imageDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
     // 비즈니스 리뷰 조회 (날짜별 그룹화)
     public Map<LocalDate, List<BusinessReviewResponse>> getBusinessReviews(Long businessId, Long userId) {
@@ -61,7 +68,8 @@ public class BusinessReviewsService {
                         .userId(review.getUser().getUsers_id())
                         .rating(review.getRating())
                         .businessReview(review.getBusinessReview())
-                        .imageUrls(reviewImages.stream().map(BusinessReviewImages::getImageUrl).collect(Collectors.toList()))
+                        .imageUrls(reviewImages.stream().map(BusinessReviewImages::getFullOrOriginalUrl).collect(Collectors.toList()))
+                        .thumbnailUrls(reviewImages.stream().map(BusinessReviewImages::getThumbnailOrOriginalUrl).collect(Collectors.toList()))
                         .xAddress(business.getX_address())
                         .yAddress(business.getY_address())
                         .build();
@@ -74,8 +82,18 @@ public class BusinessReviewsService {
         return groupedReviews;
     }
 
-    @Transactional
+    // S3 전송은 트랜잭션을 열기 전에 끝내고, 리뷰 저장이 실패하면 올린 이미지를 되돌림
     public BusinessReviewResponse createOrUpdateBusinessReview(Long userId, CreateBusinessReviewRequest request, List<MultipartFile> images) {
+        S3ImageUploadService.StagedImages staged = s3ImageUploadService.stageImages(userId, images, request.getImageKeys());
+        try {
+            return transactionTemplate.execute(status -> saveBusinessReview(userId, request, staged.imageUrls()));
+        } catch (RuntimeException e) {
+            s3ImageUploadService.discard(staged);
+            throw e;
+        }
+    }
+
+    private BusinessReviewResponse saveBusinessReview(Long userId, CreateBusinessReviewRequest request, List<String> imageUrls) {
         Businesses business = businessRepository.findById(request.getBusinessId())
                 .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + request.getBusinessId()));
 
@@ -84,8 +102,12 @@ public class BusinessReviewsService {
 
         BusinessReviews review = businessReviewsRepository.findByBusinessAndUser(business, user)
                 .map(existingReview -> {
+                    int oldRating = existingReview.getRating();
                     existingReview.setRating(request.getRating());
                     existingReview.setBusinessReview(request.getBusinessReview());
+                    if (!isReported(existingReview)) {
+                        ratingStatsService.changeRating(business, oldRating, request.getRating());
+                    }
                     return businessReviewsRepository.save(existingReview);
                 })
                 .orElseGet(() -> {
@@ -95,15 +117,19 @@ public class BusinessReviewsService {
                             .rating(request.getRating())
                             .businessReview(request.getBusinessReview())
                             .build();
+                    ratingStatsService.addRating(business, request.getRating());
                     return businessReviewsRepository.save(newReview);
                 });
 
-        List<String> imageUrls = new ArrayList<>();
-        for (MultipartFile image : images) {
-            String imageUrl = s3ImageUploadService.saveImage(image);
-            imageUrls.add(imageUrl);
-            BusinessReviewImages reviewImage = new BusinessReviewImages(review, imageUrl);
-            businessReviewImagesRepository.save(reviewImage);
+        // 이미지 행 저장 (S3에는 이미 올라가 있음)
+        List<BusinessReviewImages> reviewImages = businessReviewImagesRepository.saveAll(imageUrls.stream()
+                .map(imageUrl -> new BusinessReviewImages(review, imageUrl))
+                .collect(Collectors.toList()));
+
+        // 커밋 후 썸네일 등 변환본 생성
+        if (!reviewImages.isEmpty()) {
+            eventPublisher.publishEvent(new ImagesStoredEvent(ImagesStoredEvent.Target.REVIEW,
+                    reviewImages.stream().map(BusinessReviewImages::getImageId).collect(Collectors.toList())));
         }
 
         return BusinessReviewResponse.builder()
@@ -113,6 +139,7 @@ public class BusinessReviewsService {
                 .rating(review.getRating())
                 .businessReview(review.getBusinessReview())
                 .imageUrls(imageUrls)
+                .thumbnailUrls(imageUrls)  // 썸네일은 커밋 후 생성되므로 원본
                 .xAddress(business.getX_address())
                 .yAddress(business.getY_address())
                 .build();
@@ -129,37 +156,48 @@ public class BusinessReviewsService {
         BusinessReviews review = businessReviewsRepository.findByBusinessAndUser(business, user)
                 .orElseThrow(() -> new ResourceNotFoundException("Business review not found for businessId: " + businessId + " and userId: " + userId));
 
-        // 삭제 전 리뷰와 연결된 이미지 삭제
+        // 삭제 전 리뷰와 연결된 이미지 삭제 (S3 객체는 커밋 후 백그라운드에서 삭제)
         List<BusinessReviewImages> reviewImages = businessReviewImagesRepository.findByReview(review);
+        imageDeletionService.enqueue(reviewImages.stream()
+                .flatMap(image -> image.getStoredUrls().stream())
+                .collect(Collectors.toList()));
         businessReviewImagesRepository.deleteAll(reviewImages);
 
+        if (!isReported(review)) {
+            ratingStatsService.removeRating(business, review.getRating());
+        }
         businessReviewsRepository.delete(review);
     }
 
-    public List<BusinessReviewResponse> getAllBusinessReviews(Long userId) {
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+    // 내가 작성한 리뷰 (cursor: 이전 페이지 마지막 reviewId, size가 없으면 전체)
+    public List<BusinessReviewResponse> getAllBusinessReviews(Long userId, Long cursor, Integer size) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
 
-        // 신고되지 않은 리뷰만 필터링
-        List<BusinessReviews> reviews = businessReviewsRepository.findByUser(user)
-                .stream()
-                .filter(review -> !review.getIsReported())  // 신고되지 않은 리뷰만 필터링
-                .collect(Collectors.toList());
+        // 신고되지 않은 리뷰만 조회
+        List<BusinessReviews> reviews = businessReviewsRepository.findUnreportedByUserId(userId, cursor,
+                Paging.pageable(size));
 
         return reviews.stream()
-                .map(review -> BusinessReviewResponse.builder()
-                        .id(review.getReviewId())
-                        .businessId(review.getBusiness().getBusiness_id())
-                        .userId(review.getUser().getUsers_id())
-                        .rating(review.getRating())
-                        .businessReview(review.getBusinessReview())
-                        .imageUrls(businessReviewImagesRepository.findByReview(review)
-                                .stream()
-                                .map(BusinessReviewImages::getImageUrl)
-                                .collect(Collectors.toList()))
-                        .xAddress(review.getBusiness().getX_address())  // 조회 시 좌표 포함
-                        .yAddress(review.getBusiness().getY_address())  // 조회 시 좌표 포함
-                        .build())
+                .map(review -> {
+                    List<BusinessReviewImages> reviewImages = businessReviewImagesRepository.findByReview(review);
+                    return BusinessReviewResponse.builder()
+                            .id(review.getReviewId())
+                            .businessId(review.getBusiness().getBusiness_id())
+                            .userId(review.getUser().getUsers_id())
+                            .rating(review.getRating())
+                            .businessReview(review.getBusinessReview())
+                            .imageUrls(reviewImages.stream()
+                                    .map(BusinessReviewImages::getFullOrOriginalUrl)
+                                    .collect(Collectors.toList()))
+                            .thumbnailUrls(reviewImages.stream()
+                                    .map(BusinessReviewImages::getThumbnailOrOriginalUrl)
+                                    .collect(Collectors.toList()))
+                            .xAddress(review.getBusiness().getX_address())  // 조회 시 좌표 포함
+                            .yAddress(review.getBusiness().getY_address())  // 조회 시 좌표 포함
+                            .build();
+                })
                 .collect(Collectors.toList());
     }
 
@@ -173,10 +211,19 @@ public class BusinessReviewsService {
             return false; // 리뷰가 없을 경우 false 반환
         }
 
+        // 신고된 리뷰는 평점 집계에서 제외
+        if (!isReported(review)) {
+            ratingStatsService.removeRating(review.getBusiness(), review.getRating());
+        }
+
         // 리뷰 신고 처리
         review.report(reportReason); // 신고 사유를 함께 처리
         review.hideRecordDueToReport();
         businessReviewsRepository.save(review);
         return true; // 신고 성공 시 true 반환
     }
+
+    private boolean isReported(BusinessReviews review) {
+        return Boolean.TRUE.equals(review.getIsReported());
+    }
 }
@@ -0,0 +1,159 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.domain.enums.Business_category;
+import com.example.SomeOne.repository.BusinessesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소 좌표 격자 인덱스.
+ * 문자열로 저장된 x_address(경도), y_address(위도)를 숫자로 변환해 일정 크기 격자에 나눠 두고,
+ * 지도 화면 영역(bounding box)에 걸치는 격자만 확인해 마커를 찾는다.
+ * 장소 데이터는 외부에서 적재되므로 주기적으로 전체를 다시 읽어 교체한다.
+ */
+@Slf4j
+@Component
+public class BusinessSpatialIndex {
+
+    private static final double CELL_SIZE_DEGREES = 0.01; // 약 1km
+    private static final double MAX_LONGITUDE = 180;
+    private static final double MAX_LATITUDE = 90;
+
+    private final BusinessesRepository businessesRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    public BusinessSpatialIndex(BusinessesRepository businessesRepository) {
+        this.businessesRepository = businessesRepository;
+    }
+
+    public record Marker(Long businessId, String name, Business_category category, String address,
+                         String imgUrl, String mapX, String mapY, double longitude, double latitude) {
+    }
+
+    private record Snapshot(Map<Long, List<Marker>> cells, List<Marker> all) {
+    }
+
+    // 영역 안의 마커 (경도 minX~maxX, 위도 minY~maxY)
+    public List<Marker> findWithin(double minX, double minY, double maxX, double maxY) {
+        if (!isValidBounds(minX, minY, maxX, maxY)) {
+            throw new IllegalArgumentException("Invalid bounding box");
+        }
+        Snapshot current = snapshot;
+        List<Marker> result = new ArrayList<>();
+
+        // 좌표 범위 밖은 마커가 없으므로 잘라서 격자 수를 제한
+        long minCol = cell(clamp(minX, MAX_LONGITUDE));
+        long maxCol = cell(clamp(maxX, MAX_LONGITUDE));
+        long minRow = cell(clamp(minY, MAX_LATITUDE));
+        long maxRow = cell(clamp(maxY, MAX_LATITUDE));
+        double cellCount = (double) (maxCol - minCol + 1) * (maxRow - minRow + 1);
+
+        // 넓은 영역은 격자를 하나씩 보는 것보다 전체를 훑는 편이 빠름
+        if (cellCount > current.cells().size()) {
+            for (Marker marker : current.all()) {
+                if (contains(marker, minX, minY, maxX, maxY)) {
+                    result.add(marker);
+                }
+            }
+            return result;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                List<Marker> markers = current.cells().get(key(row, col));
+                if (markers == null) {
+                    continue;
+                }
+                for (Marker marker : markers) {
+                    if (contains(marker, minX, minY, maxX, maxY)) {
+                        result.add(marker);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    public List<Marker> all() {
+        return snapshot.all();
+    }
+
+    // 유한한 좌표이고 최소값이 최대값보다 크지 않은 영역인지
+    public static boolean isValidBounds(double minX, double minY, double maxX, double maxY) {
+        return Double.isFinite(minX) && Double.isFinite(minY) && Double.isFinite(maxX) && Double.isFinite(maxY)
+                && minX <= maxX && minY <= maxY;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${map.index.refresh-ms:600000}", initialDelayString = "${map.index.refresh-ms:600000}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        Map<Long, List<Marker>> cells = new HashMap<>();
+        List<Marker> all = new ArrayList<>();
+        int skipped = 0;
+
+        for (Businesses business : businessesRepository.findAll()) {
+            Double longitude = parseCoordinate(business.getX_address());
+            Double latitude = parseCoordinate(business.getY_address());
+            if (longitude == null || latitude == null) {
+                skipped++;
+                continue;
+            }
+            Marker marker = new Marker(
+                    business.getBusiness_id(),
+                    business.getBusiness_name(),
+                    business.getBusinessType(),
+                    business.getAddress(),
+                    business.getImg_url(),
+                    business.getX_address(),
+                    business.getY_address(),
+                    longitude,
+                    latitude);
+            all.add(marker);
+            cells.computeIfAbsent(key(cell(latitude), cell(longitude)), k -> new ArrayList<>()).add(marker);
+        }
+
+        snapshot = new Snapshot(cells, List.copyOf(all));
+        log.info("Business spatial index loaded: {} markers in {} cells ({} without coordinates), {} ms",
+                all.size(), cells.size(), skipped, System.currentTimeMillis() - start);
+    }
+
+    private static boolean contains(Marker marker, double minX, double minY, double maxX, double maxY) {
+        return marker.longitude() >= minX && marker.longitude() <= maxX
+                && marker.latitude() >= minY && marker.latitude() <= maxY;
+    }
+
+    private static double clamp(double degrees, double limit) {
+        return Math.max(-limit, Math.min(limit, degrees));
+    }
+
+    private static long cell(double degrees) {
+        return (long) Math.floor(degrees / CELL_SIZE_DEGREES);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    private static Double parseCoordinate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            double parsed = Double.parseDouble(value.trim());
+            return Double.isFinite(parsed) ? parsed : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
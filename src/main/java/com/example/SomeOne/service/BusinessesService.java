@@ -6,6 +6,7 @@ import com.example.SomeOne.dto.Businesses.response.FamousPlaceResponse;
 import com.example.SomeOne.dto.Businesses.response.FindBusinessesResponse;
 import com.example.SomeOne.dto.Businesses.response.RecommendPlaceResponse;
 import com.example.SomeOne.repository.BusinessesRepository;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,14 +21,17 @@ import java.util.stream.Collectors;
 public class BusinessesService {
 
     private final BusinessesRepository businessesRepository;
+    private final PlaceSearchIndex placeSearchIndex;
 
-    public List<FindBusinessesResponse> findBusinesses(String keyword) {
-        List<Businesses> businessesList = businessesRepository.findByKeyword(keyword);
+    // 이름, 주소, 카테고리, 섬 이름 검색 (관련도 순, size가 없으면 전체)
+    public List<FindBusinessesResponse> findBusinesses(String keyword, int page, Integer size) {
+        Paging.Window window = Paging.window(page, size);
+        List<PlaceSearchIndex.PlaceDocument> places = placeSearchIndex.searchPlaces(keyword, window.offset(), window.limit());
 
-        return businessesList.stream()
-                .map(business -> new FindBusinessesResponse(business.getBusiness_id(), business.getBusiness_name(),
-                        business.getAddress(), business.getX_address(), business.getY_address(), business.getImg_url(),
-                        business.getBusinessType())).collect(Collectors.toList());
+        return places.stream()
+                .map(place -> new FindBusinessesResponse(place.businessId(), place.name(),
+                        place.address(), place.mapX(), place.mapY(), place.imgUrl(),
+                        place.category())).collect(Collectors.toList());
     }
 
     public List<RecommendPlaceResponse> recommendPlace(Long islandId, String category) {
@@ -0,0 +1,5 @@
+package com.example.SomeOne.service;
+
+// 좋아요 추가/취소 후 발행 (커밋 후 랭킹, 캐시 갱신용)
+public record FavoriteChangedEvent(Long userId, Long businessId, boolean added) {
+}
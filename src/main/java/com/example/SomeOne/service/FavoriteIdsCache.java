@@ -0,0 +1,32 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.repository.FavoritesRepository;
+import com.example.SomeOne.utils.CoalescingCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * 사용자별 좋아요한 장소 ID 캐시.
+ * 좋아요 추가/취소가 커밋된 뒤 해당 사용자 항목만 무효화한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FavoriteIdsCache {
+
+    private final FavoritesRepository favoriteRepository;
+
+    private final CoalescingCache<Long, Set<Long>> cache =
+            CoalescingCache.withTtl("favoriteBusinessIds", 10_000, 10 * 60 * 1000L);
+
+    public Set<Long> get(Long userId) {
+        return cache.get(userId, id -> Set.copyOf(favoriteRepository.findBusinessIdsByUserId(id)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
@@ -1,6 +1,5 @@
 package com.example.SomeOne.service;
 
-import com.example.SomeOne.domain.Businesses;
 import com.example.SomeOne.domain.Favorites;
 import com.example.SomeOne.domain.Users;
 
@@ -11,12 +10,18 @@ import com.example.SomeOne.repository.BusinessesRepository;
 
 import com.example.SomeOne.repository.FavoritesRepository;
 import com.example.SomeOne.repository.UserRepository;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,69 +30,71 @@ public class FavoritesService {
     private final FavoritesRepository favoriteRepository;
     private final UserRepository usersRepository;
     private final BusinessesRepository businessesRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FavoriteIdsCache favoriteIdsCache; // 트랜잭션 없는 빈에서 커밋 후 무효화
 
     @Transactional
     public void addFavorite(Long userId, Long businessId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Businesses business = businessesRepository.findById(businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + businessId));
-
-        // 사용자-비즈니스 조합으로 이미 좋아요가 있는지 확인
-        boolean isAlreadyFavorite = favoriteRepository.existsByUserAndBusiness(user, business);
-        if (!isAlreadyFavorite) {
-            Favorites favorite = new Favorites(user, business);
-            favoriteRepository.save(favorite);
+        // 엔티티를 조회하지 않고 ID로 바로 추가 (이미 좋아요한 경우 무시)
+        if (favoriteRepository.insertIgnore(userId, businessId) > 0) {
+            eventPublisher.publishEvent(new FavoriteChangedEvent(userId, businessId, true));
+            return;
         }
+        // 추가되지 않았으면 사용자/장소가 없는 경우인지 확인
+        validateExists(userId, businessId);
     }
 
     public boolean findFavorite(Long userId, Long businessId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Businesses business = businessesRepository.findById(businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + businessId));
+        return getFavoriteBusinessIds(userId).contains(businessId);
+    }
+
+    // 주어진 장소들 중 사용자가 좋아요한 장소 ID (목록 화면의 하트 표시용, 한 번에 조회)
+    public Set<Long> findFavoriteBusinessIds(Long userId, Collection<Long> businessIds) {
+        Set<Long> favoriteIds = getFavoriteBusinessIds(userId);
+        Set<Long> result = new HashSet<>();
+        for (Long businessId : businessIds) {
+            if (favoriteIds.contains(businessId)) {
+                result.add(businessId);
+            }
+        }
+        return result;
+    }
 
-        return favoriteRepository.existsByUserAndBusiness(user, business);
+    public Set<Long> getFavoriteBusinessIds(Long userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return favoriteIdsCache.get(userId);
     }
 
+    // 좋아요 토글: 삭제를 먼저 시도하고, 지운 행이 없으면 추가
     @Transactional
     public LikeResponse updateLike(Long userId, Long businessId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Businesses business = businessesRepository.findById(businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + businessId));
-
-        boolean status = favoriteRepository.existsByUserAndBusiness(user, business);
-        if (status) {
-            removeFavorite(userId, businessId);
-            return new LikeResponse(Boolean.FALSE);
-        }
-        else {
-            addFavorite(userId, businessId);
-            return new LikeResponse(Boolean.TRUE);
+        boolean status;
+        if (favoriteRepository.deleteByUserIdAndBusinessId(userId, businessId) > 0) {
+            status = false;
+        } else if (favoriteRepository.insertIgnore(userId, businessId) > 0) {
+            status = true;
+        } else {
+            // 동시에 다른 요청이 먼저 추가한 경우
+            validateExists(userId, businessId);
+            return new LikeResponse(Boolean.TRUE, favoriteRepository.countByBusinessId(businessId));
         }
+
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, businessId, status));
+        return new LikeResponse(status, favoriteRepository.countByBusinessId(businessId));
     }
 
     @Transactional
     public void removeFavorite(Long userId, Long businessId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Businesses business = businessesRepository.findById(businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + businessId));
-
-        Favorites favorite = favoriteRepository.findByUserAndBusiness(user, business)
-                .orElseThrow(() -> new ResourceNotFoundException("Favorite not found for userId: " + userId + " and businessId: " + businessId));
-
-        favoriteRepository.delete(favorite);
+        if (favoriteRepository.deleteByUserIdAndBusinessId(userId, businessId) == 0) {
+            throw new ResourceNotFoundException("Favorite not found for userId: " + userId + " and businessId: " + businessId);
+        }
+        eventPublisher.publishEvent(new FavoriteChangedEvent(userId, businessId, false));
     }
 
     public FavoriteResponse getFavorite(Long userId, Long businessId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
-        Businesses business = businessesRepository.findById(businessId)
-                .orElseThrow(() -> new ResourceNotFoundException("Business not found with id: " + businessId));
-
-        Favorites favorite = favoriteRepository.findByUserAndBusiness(user, business)
+        Favorites favorite = favoriteRepository.findWithBusinessByUserIdAndBusinessId(userId, businessId)
                 .orElseThrow(() -> new ResourceNotFoundException("Favorite not found for userId: " + userId + " and businessId: " + businessId));
 
         return new FavoriteResponse(favorite.getBusiness().getBusiness_id(),
@@ -97,11 +104,14 @@ public class FavoritesService {
                 favorite.getBusiness().getImg_url());
     }
 
-    public List<FavoriteResponse> getFavorites(Long userId) {
-        Users user = usersRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + userId));
+    // 좋아요한 장소 (cursor: 이전 페이지 마지막 businessId, size가 없으면 전체)
+    public List<FavoriteResponse> getFavorites(Long userId, Long cursor, Integer size) {
+        if (!usersRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
 
-        List<Favorites> favorites = favoriteRepository.findByUser(user);
+        List<Favorites> favorites = favoriteRepository.findWithBusinessByUserId(userId, cursor,
+                Paging.pageable(size));
 
         return favorites.stream()
                 .map(favorite -> new FavoriteResponse(favorite.getBusiness().getBusiness_id(),
@@ -131,4 +141,13 @@ public class FavoritesService {
                         favorite.getBusiness().getImg_url()))
                 .collect(Collectors.toList());
     }
+
+    private void validateExists(Long userId, Long businessId) {
+        if (!usersRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found with id: " + userId);
+        }
+        if (!businessesRepository.existsById(businessId)) {
+            throw new ResourceNotFoundException("Business not found with id: " + businessId);
+        }
+    }
 }
@@ -0,0 +1,169 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.ImageDeletion;
+import com.example.SomeOne.repository.BusinessReviewImagesRepository;
+import com.example.SomeOne.repository.ImageDeletionRepository;
+import com.example.SomeOne.repository.RecordImagesRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * S3 이미지 삭제 대기열.
+ * 이미지 행을 지우는 트랜잭션 안에서 객체 키만 기록하고(롤백되면 함께 취소), 백그라운드 작업이
+ * DeleteObjects로 최대 1000개씩 삭제한다. 실패한 키는 지수 백오프로 다시 시도한다.
+ * reconcile을 켜면 DB 어디에서도 참조하지 않는 오래된 업로드 객체를 찾아 대기열에 넣는다.
+ */
+@Slf4j
+@Service
+public class ImageDeletionService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // 이 서비스가 만든 키만 정리 대상 (UUID로 시작, 직접 업로드는 uploads/{userId}/ 아래)
+    private static final Pattern MANAGED_KEY = Pattern.compile(
+            "^(uploads/\\d+/)?[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}.*");
+
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final RecordImagesRepository recordImagesRepository;
+    private final BusinessReviewImagesRepository businessReviewImagesRepository;
+    private final S3ImageUploadService s3ImageUploadService;
+    private final int maxAttempts;
+    private final long maxRetryDelayMinutes;
+    private final boolean reconcileEnabled;
+    private final long orphanGraceHours;
+
+    public ImageDeletionService(ImageDeletionRepository imageDeletionRepository,
+                                RecordImagesRepository recordImagesRepository,
+                                BusinessReviewImagesRepository businessReviewImagesRepository,
+                                S3ImageUploadService s3ImageUploadService,
+                                @Value("${s3.deletion.max-attempts:10}") int maxAttempts,
+                                @Value("${s3.deletion.max-retry-delay-minutes:1440}") long maxRetryDelayMinutes,
+                                @Value("${s3.deletion.reconcile.enabled:false}") boolean reconcileEnabled,
+                                @Value("${s3.deletion.reconcile.grace-hours:24}") long orphanGraceHours) {
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.recordImagesRepository = recordImagesRepository;
+        this.businessReviewImagesRepository = businessReviewImagesRepository;
+        this.s3ImageUploadService = s3ImageUploadService;
+        this.maxAttempts = maxAttempts;
+        this.maxRetryDelayMinutes = maxRetryDelayMinutes;
+        this.reconcileEnabled = reconcileEnabled;
+        this.orphanGraceHours = orphanGraceHours;
+    }
+
+    // 호출한 트랜잭션에 삭제 예약을 함께 기록
+    @Transactional
+    public void enqueue(Collection<String> imageUrls) {
+        enqueueKeys(imageUrls.stream()
+                .filter(Objects::nonNull)
+                .map(s3ImageUploadService::extractKey)
+                .collect(Collectors.toSet()));
+    }
+
+    @Scheduled(fixedDelayString = "${s3.deletion.interval-ms:60000}", initialDelayString = "${s3.deletion.interval-ms:60000}")
+    public void purge() {
+        int deleted = 0;
+        int failed = 0;
+        List<ImageDeletion> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            batch = imageDeletionRepository.findDue(now, PageRequest.of(0, BATCH_SIZE));
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Set<String> failedKeys = s3ImageUploadService.deleteKeys(batch.stream()
+                    .map(ImageDeletion::getObjectKey)
+                    .distinct()
+                    .collect(Collectors.toList()));
+
+            List<ImageDeletion> done = new ArrayList<>();
+            List<ImageDeletion> retry = new ArrayList<>();
+            for (ImageDeletion deletion : batch) {
+                if (!failedKeys.contains(deletion.getObjectKey())) {
+                    done.add(deletion);
+                } else if (deletion.getAttempts() + 1 >= maxAttempts) {
+                    log.error("Giving up deleting S3 object {} after {} attempts", deletion.getObjectKey(), maxAttempts);
+                    done.add(deletion);
+                } else {
+                    deletion.retryLater(now, maxRetryDelayMinutes);
+                    retry.add(deletion);
+                }
+            }
+            imageDeletionRepository.deleteAllInBatch(done);
+            imageDeletionRepository.saveAll(retry);
+            deleted += done.size();
+            failed += retry.size();
+        } while (batch.size() == BATCH_SIZE && failed == 0);
+
+        if (deleted > 0 || failed > 0) {
+            log.info("S3 image deletion: {} removed, {} scheduled for retry", deleted, failed);
+        }
+    }
+
+    // 버킷을 훑어 참조되지 않는 관리 대상 객체를 대기열에 추가 (여러 환경이 버킷을 공유하면 켜지 말 것)
+    @Scheduled(cron = "${s3.deletion.reconcile.cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void reconcileOrphans() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Date cutoff = new Date(start - orphanGraceHours * 60 * 60 * 1000L);
+
+        // 객체 목록을 먼저 읽고 참조 목록을 나중에 읽어, 그 사이 저장된 이미지를 고아로 보지 않게 한다
+        List<String> candidates = new ArrayList<>();
+        s3ImageUploadService.forEachObject(summary -> {
+            if (summary.getLastModified().before(cutoff) && MANAGED_KEY.matcher(summary.getKey()).matches()) {
+                candidates.add(summary.getKey());
+            }
+        });
+
+        Set<String> referenced = referencedKeys();
+        imageDeletionRepository.findAll().forEach(deletion -> referenced.add(deletion.getObjectKey()));
+        Set<String> orphans = candidates.stream()
+                .filter(key -> !referenced.contains(key))
+                .collect(Collectors.toSet());
+
+        enqueueKeys(orphans);
+        log.info("S3 orphan reconcile: {} candidates, {} orphans queued, {} ms",
+                candidates.size(), orphans.size(), System.currentTimeMillis() - start);
+    }
+
+    private Set<String> referencedKeys() {
+        Set<String> keys = new HashSet<>();
+        List<Object[]> rows = new ArrayList<>(recordImagesRepository.findAllStoredUrls());
+        rows.addAll(businessReviewImagesRepository.findAllStoredUrls());
+        for (Object[] row : rows) {
+            for (Object url : row) {
+                if (url != null) {
+                    keys.add(s3ImageUploadService.extractKey((String) url));
+                }
+            }
+        }
+        return keys;
+    }
+
+    private void enqueueKeys(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        imageDeletionRepository.saveAll(keys.stream()
+                .map(key -> new ImageDeletion(key, now))
+                .collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.BusinessReviewImages;
+import com.example.SomeOne.domain.RecordImages;
+import com.example.SomeOne.repository.BusinessReviewImagesRepository;
+import com.example.SomeOne.repository.RecordImagesRepository;
+import com.example.SomeOne.utils.ImageResizer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 이미지의 변환본(썸네일 320px, 피드 1080px, 전체 2048px JPEG) 생성.
+ * 요청 스레드와 분리된 고정 크기 풀과 제한된 큐에서 처리하고, 큐가 가득 차거나 변환에 실패하면
+ * 해당 이미지는 원본 URL을 그대로 사용한다. 재인코딩하면서 EXIF 메타데이터(위치 정보 등)는 제거된다.
+ */
+@Slf4j
+@Service
+public class ImageProcessingService {
+
+    private static final int THUMBNAIL_SIZE = 320;
+    private static final int FEED_SIZE = 1080;
+    private static final int FULL_SIZE = 2048;
+
+    private final S3ImageUploadService s3ImageUploadService;
+    private final RecordImagesRepository recordImagesRepository;
+    private final BusinessReviewImagesRepository businessReviewImagesRepository;
+    private final ImageDeletionService imageDeletionService;
+    private final float jpegQuality;
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessingService(S3ImageUploadService s3ImageUploadService,
+                                  RecordImagesRepository recordImagesRepository,
+                                  BusinessReviewImagesRepository businessReviewImagesRepository,
+                                  ImageDeletionService imageDeletionService,
+                                  @Value("${image.processing.threads:2}") int threads,
+                                  @Value("${image.processing.queue-capacity:200}") int queueCapacity,
+                                  @Value("${image.processing.jpeg-quality:0.8}") float jpegQuality) {
+        this.s3ImageUploadService = s3ImageUploadService;
+        this.recordImagesRepository = recordImagesRepository;
+        this.businessReviewImagesRepository = businessReviewImagesRepository;
+        this.imageDeletionService = imageDeletionService;
+        this.jpegQuality = jpegQuality;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "image-processing-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 커밋된 뒤에만 처리 (롤백되면 행이 없으므로 변환하지 않음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImagesStored(ImagesStoredEvent event) {
+        for (Long imageId : event.imageIds()) {
+            try {
+                executor.execute(() -> process(event.target(), imageId));
+            } catch (RejectedExecutionException e) {
+                log.warn("Image processing queue is full, serving original for {} image {}", event.target(), imageId);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void process(ImagesStoredEvent.Target target, Long imageId) {
+        Optional<String> imageUrl = findImageUrl(target, imageId);
+        if (imageUrl.isEmpty()) {
+            return; // 처리 전에 삭제됨
+        }
+
+        List<String> renditionUrls = new ArrayList<>();
+        try {
+            BufferedImage full = ImageResizer.resize(
+                    ImageResizer.read(s3ImageUploadService.downloadImage(imageUrl.get()), FULL_SIZE), FULL_SIZE);
+            BufferedImage feed = ImageResizer.resize(full, FEED_SIZE);
+            BufferedImage thumbnail = ImageResizer.resize(feed, THUMBNAIL_SIZE);
+
+            String fullUrl = saveRendition(imageUrl.get(), "full", full, renditionUrls);
+            String feedUrl = saveRendition(imageUrl.get(), "feed", feed, renditionUrls);
+            String thumbnailUrl = saveRendition(imageUrl.get(), "thumb", thumbnail, renditionUrls);
+
+            int updated = target == ImagesStoredEvent.Target.RECORD
+                    ? recordImagesRepository.updateRenditions(imageId, thumbnailUrl, feedUrl, fullUrl)
+                    : businessReviewImagesRepository.updateRenditions(imageId, thumbnailUrl, feedUrl, fullUrl);
+            if (updated == 0) {
+                discard(renditionUrls); // 처리 중에 삭제됨
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to create renditions for {} image {}, serving original", target, imageId, e);
+            discard(renditionUrls);
+        }
+    }
+
+    // 쓰이지 않게 된 변환본을 삭제 대기열에 기록
+    private void discard(List<String> renditionUrls) {
+        if (renditionUrls.isEmpty()) {
+            return;
+        }
+        try {
+            imageDeletionService.enqueue(renditionUrls);
+        } catch (RuntimeException e) {
+            log.warn("Failed to queue renditions for deletion: {}", renditionUrls, e);
+        }
+    }
+
+    private Optional<String> findImageUrl(ImagesStoredEvent.Target target, Long imageId) {
+        switch (target) {
+            case RECORD:
+                return recordImagesRepository.findById(imageId).map(RecordImages::getImageUrl);
+            case REVIEW:
+                return businessReviewImagesRepository.findById(imageId).map(BusinessReviewImages::getImageUrl);
+            default:
+                throw new IllegalArgumentException("Unknown image target: " + target);
+        }
+    }
+
+    private String saveRendition(String sourceUrl, String suffix, BufferedImage image, List<String> renditionUrls) throws IOException {
+        String url = s3ImageUploadService.saveRendition(sourceUrl, suffix, ImageResizer.toJpeg(image, jpegQuality));
+        renditionUrls.add(url);
+        return url;
+    }
+}
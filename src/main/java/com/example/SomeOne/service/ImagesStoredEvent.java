@@ -0,0 +1,11 @@
+package com.example.SomeOne.service;
+
+import java.util.List;
+
+// 기록/리뷰 이미지 원본이 저장된 뒤 발행 (커밋 후 썸네일 등 변환본 생성용)
+public record ImagesStoredEvent(Target target, List<Long> imageIds) {
+
+    public enum Target {
+        RECORD, REVIEW
+    }
+}
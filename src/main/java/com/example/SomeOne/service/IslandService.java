@@ -4,6 +4,7 @@ import com.example.SomeOne.domain.Island;
 import com.example.SomeOne.dto.TravelPlans.response.RandomIslandResponse;
 import com.example.SomeOne.dto.TravelPlans.response.FindIslandResponse;
 import com.example.SomeOne.repository.IslandRepository;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,9 +19,12 @@ import java.util.stream.Collectors;
 public class IslandService {
 
     private final IslandRepository islandRepository;
+    private final PlaceSearchIndex placeSearchIndex;
 
-    public List<FindIslandResponse> findIsland(String keyword) {
-        List<Island> islandList = islandRepository.findByKeyword(keyword);
+    // 이름, 주소 검색 (관련도 순, size가 없으면 전체)
+    public List<FindIslandResponse> findIsland(String keyword, int page, Integer size) {
+        Paging.Window window = Paging.window(page, size);
+        List<Island> islandList = placeSearchIndex.searchIslands(keyword, window.offset(), window.limit());
 
         return islandList.stream()
                 .map(island -> new FindIslandResponse(island.getId(), island.getName(),
@@ -10,6 +10,7 @@ import com.example.SomeOne.feign.kakao.KakaoAuthApi;
 import com.example.SomeOne.feign.kakao.KakaoUserApi;
 import com.example.SomeOne.repository.UserRepository;
 import com.example.SomeOne.utils.GsonLocalDateTimeAdapter;
+import com.example.SomeOne.utils.ShortLivedStore;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +20,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Date;
 import java.util.HashMap;
@@ -30,11 +32,16 @@ import java.util.Optional;
 @RequiredArgsConstructor
 @Qualifier("kakaoLogin")
 public class KakaoLoginServiceImpl implements SocialLoginService {
+    // 인가 코드가 이미 사용되었는지 체크 (카카오 인가 코드 유효 시간 동안 보관)
+    private static final String USED_CODE_KEY_PREFIX = "kakao:used-code:";
+    private static final Duration AUTHORIZATION_CODE_TTL = Duration.ofMinutes(10);
+
     private final KakaoAuthApi kakaoAuthApi;
     private final KakaoUserApi kakaoUserApi;
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserRepository userRepository;
+    private final ShortLivedStore shortLivedStore;
 
     @Value("${social.client.kakao.rest-api-key}")
     private String kakaoAppKey;
@@ -45,37 +52,39 @@ public class KakaoLoginServiceImpl implements SocialLoginService {
     @Value("${social.client.kakao.grant_type}")
     private String kakaoGrantType;
 
-    // 인가 코드가 이미 사용되었는지 체크하는 변수
-    private Map<String, Boolean> usedAuthorizationCodes = new HashMap<>();
-
     @Override
     public UserType getServiceName() {
         return UserType.KAKAO;
     }
 
     @Override
-    public synchronized SocialAuthResponse getAccessToken(String authorizationCode) {
-        if (usedAuthorizationCodes.containsKey(authorizationCode)) {
+    public SocialAuthResponse getAccessToken(String authorizationCode) {
+        // 키 단위 원자 연산이므로 다른 코드의 로그인은 기다리지 않음
+        if (!shortLivedStore.putIfAbsent(USED_CODE_KEY_PREFIX + authorizationCode, "used", AUTHORIZATION_CODE_TTL)) {
             log.error("Authorization code {} has already been used", authorizationCode);
             throw new IllegalStateException("This authorization code has already been used.");
         }
 
-        usedAuthorizationCodes.put(authorizationCode, true);
-
-        ResponseEntity<String> response = kakaoAuthApi.getAccessToken(
-                kakaoAppKey,
-                kakaoAppSecret,
-                kakaoGrantType,
-                kakaoRedirectUri,
-                authorizationCode
-        );
+        ResponseEntity<String> response;
+        try {
+            response = kakaoAuthApi.getAccessToken(
+                    kakaoAppKey,
+                    kakaoAppSecret,
+                    kakaoGrantType,
+                    kakaoRedirectUri,
+                    authorizationCode
+            );
+        } catch (RuntimeException e) {
+            shortLivedStore.remove(USED_CODE_KEY_PREFIX + authorizationCode);
+            throw e;
+        }
 
         log.info("Kakao auth response: {}", response.toString());
 
         SocialAuthResponse socialAuthResponse = new Gson().fromJson(response.getBody(), SocialAuthResponse.class);
 
         if (socialAuthResponse == null || socialAuthResponse.getAccess_token() == null) {
-            usedAuthorizationCodes.remove(authorizationCode);
+            shortLivedStore.remove(USED_CODE_KEY_PREFIX + authorizationCode);
             log.error("Failed to obtain access token for authorization code {}", authorizationCode);
             throw new IllegalStateException("Failed to obtain access token");
         }
@@ -2,32 +2,89 @@ package com.example.SomeOne.service;
 
 import com.example.SomeOne.dto.Businesses.response.BusinessResponse;
 import com.example.SomeOne.dto.Businesses.response.KakaoPlaceSearchResponse;
-import lombok.RequiredArgsConstructor;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * 카카오 로컬 키워드 검색.
+ * 정규화한 검색어 단위로 결과를 캐싱하고, 같은 검색어의 동시 요청은 카카오 API 호출 한 번으로 합친다.
+ * snapshot-path를 지정하면 종료 시 자주 쓰인 결과를 파일로 남기고 다음 기동 때 다시 채운다.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoMapService {
 
+    private static final String KAKAO_PLACE_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+
     private final RestTemplate restTemplate;
+    private final ObjectMapper objectMapper;
+    private final CoalescingCache<String, List<BusinessResponse>> searchCache;
+    private final long cacheTtlMillis;
+    private final String snapshotPath;
+    private final int snapshotSize;
 
     // 카카오 API 키 (application.yml 또는 application.properties에 설정)
     @Value("${api.kakao.map.apiKey}")
     private String kakaoApiKey;
 
-    private static final String KAKAO_PLACE_SEARCH_URL = "https://dapi.kakao.com/v2/local/search/keyword.json";
+    public KakaoMapService(RestTemplate restTemplate,
+                           ObjectMapper objectMapper,
+                           @Value("${kakao.search.cache.max-size:5000}") int cacheMaxSize,
+                           @Value("${kakao.search.cache.ttl-minutes:60}") long cacheTtlMinutes,
+                           @Value("${kakao.search.cache.snapshot-path:}") String snapshotPath,
+                           @Value("${kakao.search.cache.snapshot-size:500}") int snapshotSize) {
+        this.restTemplate = restTemplate;
+        this.objectMapper = objectMapper;
+        this.cacheTtlMillis = cacheTtlMinutes * 60 * 1000L;
+        this.searchCache = CoalescingCache.withTtl("kakaoPlaceSearch", cacheMaxSize, cacheTtlMillis);
+        this.snapshotPath = snapshotPath;
+        this.snapshotSize = snapshotSize;
+    }
 
     // 카카오 API로 장소 검색
     public List<BusinessResponse> findPlacesByKeyword(String query) {
-        String url = KAKAO_PLACE_SEARCH_URL + "?query=" + query;
+        String key = normalize(query);
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("Query must not be blank");
+        }
+        return searchCache.get(key, this::search);
+    }
+
+    // 히트율과 미스 1건당 평균 카카오 API 응답 시간
+    public CacheStats getCacheStats() {
+        return searchCache.stats();
+    }
+
+    private List<BusinessResponse> search(String query) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(KAKAO_PLACE_SEARCH_URL)
+                .queryParam("query", query)
+                .encode()
+                .build()
+                .toUri();
 
         HttpHeaders headers = new HttpHeaders();
         headers.set("Authorization", "KakaoAK " + kakaoApiKey);  // REST API 키를 Authorization 헤더에 추가
@@ -35,13 +92,72 @@ public class KakaoMapService {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         // API 호출
-        ResponseEntity<KakaoPlaceSearchResponse> response = restTemplate.exchange(url, HttpMethod.GET, entity, KakaoPlaceSearchResponse.class);
+        ResponseEntity<KakaoPlaceSearchResponse> response = restTemplate.exchange(uri, HttpMethod.GET, entity, KakaoPlaceSearchResponse.class);
 
         if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
             // 검색 결과를 변환하여 반환
-            return response.getBody().toBusinessResponseList(); // 변환 로직 필요
+            return List.copyOf(response.getBody().toBusinessResponseList());
         } else {
             throw new RuntimeException("Failed to search places from Kakao API");
         }
     }
+
+    // 대소문자, 앞뒤/연속 공백 차이는 같은 검색어로 취급
+    private static String normalize(String query) {
+        if (query == null) {
+            return "";
+        }
+        return Normalizer.normalize(query, Normalizer.Form.NFC)
+                .trim()
+                .replaceAll("\\s+", " ")
+                .toLowerCase(Locale.ROOT);
+    }
+
+    // 검색어별 결과와 원래 만료 시각
+    private record Snapshot(long savedAt, Map<String, SnapshotEntry> results) {
+    }
+
+    private record SnapshotEntry(List<BusinessResponse> places, long expiresAt) {
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreSnapshot() {
+        if (snapshotPath.isBlank() || !Files.exists(Path.of(snapshotPath))) {
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(Path.of(snapshotPath).toFile(), new TypeReference<Snapshot>() {
+            });
+            // TTL보다 오래된 스냅샷은 사용하지 않음
+            if (snapshot.results() == null || System.currentTimeMillis() - snapshot.savedAt() > cacheTtlMillis) {
+                return;
+            }
+            // 남은 수명만큼만 보관 (다시 TTL 전체를 주면 최대 TTL의 두 배만큼 오래된 결과가 나감)
+            long savedExpiry = snapshot.savedAt() + cacheTtlMillis;
+            snapshot.results().forEach((query, entry) -> {
+                if (entry != null && entry.places() != null) {
+                    searchCache.put(query, entry.places(), Math.min(entry.expiresAt(), savedExpiry));
+                }
+            });
+            log.info("Kakao search cache restored: {} queries", searchCache.size());
+        } catch (IOException e) {
+            log.warn("Failed to restore Kakao search cache from {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        if (snapshotPath.isBlank()) {
+            return;
+        }
+        try {
+            Map<String, SnapshotEntry> results = new LinkedHashMap<>();
+            searchCache.hottest(snapshotSize).forEach((query, cached) ->
+                    results.put(query, new SnapshotEntry(cached.value(), cached.expiresAt())));
+            objectMapper.writeValue(Path.of(snapshotPath).toFile(), new Snapshot(System.currentTimeMillis(), results));
+            log.info("Kakao search cache saved: {} queries", results.size());
+        } catch (IOException e) {
+            log.warn("Failed to save Kakao search cache to {}", snapshotPath, e);
+        }
+    }
 }
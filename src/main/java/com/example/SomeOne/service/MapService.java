@@ -4,10 +4,15 @@ import com.example.SomeOne.domain.Businesses;
 import com.example.SomeOne.domain.TravelPlace;
 import com.example.SomeOne.domain.Users;
 import com.example.SomeOne.dto.Businesses.response.BusinessResponse;
+import com.example.SomeOne.dto.Businesses.response.MapMarkersResponse;
+import com.example.SomeOne.dto.Businesses.response.MarkerClusterResponse;
+import com.example.SomeOne.dto.Businesses.response.MyPlaceResponse;
+import com.example.SomeOne.dto.Businesses.response.MyPlacesPageResponse;
 import com.example.SomeOne.repository.BusinessesRepository;
-import com.example.SomeOne.repository.FavoritesRepository;
 import com.example.SomeOne.repository.TravelPlaceRepository;
 import com.example.SomeOne.repository.UserRepository;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.Paging;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.json.JSONArray;
@@ -20,10 +25,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,7 +42,16 @@ public class MapService {
     private final TravelPlaceRepository travelPlaceRepository;
     private final UserRepository userRepository;
     private final BusinessesRepository businessesRepository;
-    private final FavoritesRepository favoritesRepository;
+    private final FavoritesService favoritesService;
+    private final BusinessSpatialIndex spatialIndex;
+    private final MarkerClusterIndex clusterIndex;
+    private final PlaceSearchIndex placeSearchIndex;
+
+    private static final int MAX_MY_PLACES_PAGE_SIZE = 100;
+
+    // 사용자별 내 장소 목록 캐시 (여행 장소 변경 커밋 후 무효화)
+    private final CoalescingCache<Long, List<MyPlaceResponse>> myPlacesCache =
+            CoalescingCache.withTtl("myPlaces", 10_000, 30 * 60 * 1000L);
 
     // 비즈니스 정보 마커 표시
     public List<BusinessResponse> getBusinessLocations(Long userId) {
@@ -45,17 +63,17 @@ public class MapService {
         List<TravelPlace> places = travelPlaceRepository.findAll();
 
         // 각 비즈니스에 대해 즐겨찾기 여부 확인 및 BusinessResponse 생성
+        Set<Long> favoriteIds = favoritesService.getFavoriteBusinessIds(userId);
         return places.stream()
                 .map(place -> {
                     Businesses business = place.getBusinesses();
-                    boolean isFavorite = favoritesRepository.findByUserAndBusiness(user, business).isPresent();
-                    return new BusinessResponse(business, isFavorite);
+                    return new BusinessResponse(business, favoriteIds.contains(business.getBusiness_id()));
                 })
                 .collect(Collectors.toList());
     }
 
-    // 비즈니스 이름으로 장소 검색
-    public List<BusinessResponse> searchBusinesses(String keyword) {
+    // 비즈니스 이름, 주소, 카테고리, 섬 이름으로 장소 검색 (관련도 순, size가 없으면 전체)
+    public List<BusinessResponse> searchBusinesses(String keyword, int page, Integer size) {
         // SecurityContextHolder를 통해 인증된 사용자 가져오기
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
@@ -70,61 +88,188 @@ public class MapService {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
 
-        // 키워드로 비즈니스 검색
-        List<Businesses> businesses = businessesRepository.findByKeyword(keyword);
-
-        // 검색 결과가 없을 경우 빈 리스트 반환
-        if (businesses.isEmpty()) {
-            return new ArrayList<>();  // 빈 리스트 반환
-        }
+        // 검색 색인에서 비즈니스 검색
+        Paging.Window window = Paging.window(page, size);
+        List<PlaceSearchIndex.PlaceDocument> places = placeSearchIndex.searchPlaces(keyword, window.offset(), window.limit());
 
-        // 각 비즈니스에 대해 즐겨찾기 여부 확인 로직 제거 및 기본값(false) 설정
-        return businesses.stream()
-                .map(business -> new BusinessResponse(business, false))  // 즐겨찾기 여부는 기본값(false)로 설정
+        // 즐겨찾기 여부는 기본값(false)로 설정
+        return places.stream()
+                .map(place -> BusinessResponse.builder()
+                        .businessId(place.businessId())
+                        .businessName(place.name())
+                        .businessType(place.category() != null ? place.category().name() : null)
+                        .address(place.address())
+                        .mapX(place.mapX())
+                        .mapY(place.mapY())
+                        .imageUrl(place.imgUrl())
+                        .isFavorite(false)
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    // 특정 사용자의 여행 장소 가져오기
+    // 특정 사용자의 여행 장소 가져오기 (같은 장소는 한 번만)
     public List<BusinessResponse> getBusinessLocationsByUser(Long userId) {
-        // userId로 Users 객체를 조회
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
-
-        // 특정 사용자의 여행 장소 가져오기
-        List<TravelPlace> places = travelPlaceRepository.findByTravelPlans_User(user);
-
-        // 각 비즈니스에 대해 즐겨찾기 여부 확인 및 BusinessResponse 생성
-        return places.stream()
-                .map(place -> {
-                    Businesses business = place.getBusinesses();
-                    boolean isFavorite = favoritesRepository.findByUserAndBusiness(user, business).isPresent();
-                    return new BusinessResponse(business, isFavorite);
-                })
+        Set<Long> favoriteIds = favoritesService.getFavoriteBusinessIds(userId);
+        return getMyPlaces(userId).stream()
+                .map(place -> toBusinessResponse(place, favoriteIds))
                 .collect(Collectors.toList());
     }
 
     // 사용자 ID와 검색어를 기반으로 자신의 여행 장소 필터링
     public List<BusinessResponse> searchMyPlaces(Long userId, String keyword) {
-        // 사용자 조회
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("User not found with id: " + userId));
-
-        // 키워드로 자신의 여행 장소 필터링
-        List<TravelPlace> travelPlaces = travelPlaceRepository.findByUserIdAndBusinessNameContaining(userId, keyword);
+        // 캐시된 내 장소 목록에서 이름으로 필터링
+        String lowerKeyword = keyword.toLowerCase();
+        List<MyPlaceResponse> places = getMyPlaces(userId).stream()
+                .filter(place -> place.getBusinessName() != null
+                        && place.getBusinessName().toLowerCase().contains(lowerKeyword))
+                .collect(Collectors.toList());
 
         // 여행 장소가 없을 경우 예외 처리
-        if (travelPlaces.isEmpty()) {
+        if (places.isEmpty()) {
             throw new EntityNotFoundException("No travel places found for user ID: " + userId + " with business name containing: " + keyword);
         }
 
-        // 각 비즈니스에 대해 즐겨찾기 여부 확인 및 BusinessResponse 생성
-        return travelPlaces.stream()
-                .map(travelPlace -> {
-                    Businesses business = travelPlace.getBusinesses();
-                    boolean isFavorite = favoritesRepository.findByUserAndBusiness(user, business).isPresent();
-                    return new BusinessResponse(business, isFavorite);
-                })
+        Set<Long> favoriteIds = favoritesService.getFavoriteBusinessIds(userId);
+        return places.stream()
+                .map(place -> toBusinessResponse(place, favoriteIds))
                 .collect(Collectors.toList());
     }
 
+    // 내 장소 피드 (마지막 방문일 최신순, 커서 기반 페이지네이션)
+    public MyPlacesPageResponse getMyPlacesPage(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_MY_PLACES_PAGE_SIZE));
+        List<MyPlaceResponse> places = getMyPlaces(userId);
+
+        int from = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            MyPlaceCursor after = MyPlaceCursor.parse(cursor);
+            // 커서 위치 다음 항목부터 (정렬 기준이 같으므로 목록이 바뀌어도 중복/누락 없음)
+            while (from < places.size() && !after.isBefore(places.get(from))) {
+                from++;
+            }
+        }
+        int to = Math.min(from + pageSize, places.size());
+
+        Set<Long> favoriteIds = favoritesService.getFavoriteBusinessIds(userId);
+        List<MyPlaceResponse> page = places.subList(from, to).stream()
+                .map(place -> place.withFavorite(favoriteIds.contains(place.getBusinessId())))
+                .collect(Collectors.toList());
+        String nextCursor = to < places.size() ? MyPlaceCursor.of(places.get(to - 1)).format() : null;
+        return new MyPlacesPageResponse(page, nextCursor);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTravelPlacesChanged(TravelPlacesChangedEvent event) {
+        myPlacesCache.invalidate(event.userId());
+    }
+
+    private List<MyPlaceResponse> getMyPlaces(Long userId) {
+        return myPlacesCache.get(userId, id -> travelPlaceRepository.findMyPlacesByUserId(id).stream()
+                .sorted(MY_PLACE_ORDER)
+                .toList());
+    }
+
+    private BusinessResponse toBusinessResponse(MyPlaceResponse place, Set<Long> favoriteIds) {
+        return BusinessResponse.builder()
+                .businessId(place.getBusinessId())
+                .businessName(place.getBusinessName())
+                .businessType(place.getBusinessType() != null ? place.getBusinessType().name() : null)
+                .address(place.getAddress())
+                .mapX(place.getMapX())
+                .mapY(place.getMapY())
+                .imageUrl(place.getImageUrl())
+                .isFavorite(favoriteIds.contains(place.getBusinessId()))
+                .build();
+    }
+
+    // 마지막 방문일 내림차순(날짜 없음은 마지막), 같은 날이면 장소 ID 내림차순
+    private static final Comparator<MyPlaceResponse> MY_PLACE_ORDER = Comparator
+            .comparing(MyPlaceResponse::getLastVisitDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(MyPlaceResponse::getBusinessId, Comparator.reverseOrder());
+
+    private record MyPlaceCursor(LocalDate lastVisitDate, Long businessId) {
+
+        private static MyPlaceCursor of(MyPlaceResponse place) {
+            return new MyPlaceCursor(place.getLastVisitDate(), place.getBusinessId());
+        }
+
+        // "2024-05-01_123" 형태, 날짜가 없으면 "_123"
+        private static MyPlaceCursor parse(String cursor) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                String date = cursor.substring(0, Math.max(separator, 0));
+                return new MyPlaceCursor(date.isEmpty() ? null : LocalDate.parse(date),
+                        Long.valueOf(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        private String format() {
+            return (lastVisitDate != null ? lastVisitDate.toString() : "") + "_" + businessId;
+        }
+
+        // 이 커서가 주어진 장소보다 정렬상 앞에 있는지
+        private boolean isBefore(MyPlaceResponse place) {
+            MyPlaceResponse self = new MyPlaceResponse(businessId, null, null, null, null, null, null, 0L, lastVisitDate);
+            return MY_PLACE_ORDER.compare(self, place) < 0;
+        }
+    }
+
+    // 지도 화면 영역 안의 장소 마커 (경도 minX~maxX, 위도 minY~maxY)
+    public List<BusinessResponse> getBusinessesInViewport(Long userId, double minX, double minY, double maxX, double maxY) {
+        validateBoundingBox(minX, minY, maxX, maxY);
+
+        List<BusinessSpatialIndex.Marker> markers = spatialIndex.findWithin(minX, minY, maxX, maxY);
+        Set<Long> favoriteIds = favoritesService.getFavoriteBusinessIds(userId);
+
+        return markers.stream()
+                .map(marker -> toBusinessResponse(marker, favoriteIds))
+                .collect(Collectors.toList());
+    }
+
+    // 줌 레벨에 따라 클러스터 또는 개별 마커 반환 (확대된 화면에서만 개별 마커)
+    public MapMarkersResponse getMarkersInViewport(Long userId, double minX, double minY, double maxX, double maxY, int zoom) {
+        validateBoundingBox(minX, minY, maxX, maxY);
+        if (!clusterIndex.isClustered(zoom)) {
+            return new MapMarkersResponse(zoom, List.of(), getBusinessesInViewport(userId, minX, minY, maxX, maxY));
+        }
+
+        List<MarkerClusterResponse> clusters = new ArrayList<>();
+        List<BusinessSpatialIndex.Marker> singles = new ArrayList<>();
+        for (MarkerClusterIndex.Cluster cluster : clusterIndex.findWithin(minX, minY, maxX, maxY, zoom)) {
+            if (cluster.single() != null) {
+                singles.add(cluster.single());
+            } else {
+                clusters.add(new MarkerClusterResponse(cluster.longitude(), cluster.latitude(),
+                        cluster.count(), cluster.categoryCounts()));
+            }
+        }
+
+        Set<Long> favoriteIds = singles.isEmpty() ? Set.of() : favoritesService.getFavoriteBusinessIds(userId);
+        List<BusinessResponse> markers = singles.stream()
+                .map(marker -> toBusinessResponse(marker, favoriteIds))
+                .collect(Collectors.toList());
+        return new MapMarkersResponse(zoom, clusters, markers);
+    }
+
+    // NaN, 무한대, 뒤집힌 영역은 400으로 거절
+    private static void validateBoundingBox(double minX, double minY, double maxX, double maxY) {
+        if (!BusinessSpatialIndex.isValidBounds(minX, minY, maxX, maxY)) {
+            throw new IllegalArgumentException("Invalid bounding box");
+        }
+    }
+
+    private BusinessResponse toBusinessResponse(BusinessSpatialIndex.Marker marker, Set<Long> favoriteIds) {
+        return BusinessResponse.builder()
+                .businessId(marker.businessId())
+                .businessName(marker.name())
+                .businessType(marker.category() != null ? marker.category().name() : null)
+                .address(marker.address())
+                .mapX(marker.mapX())
+                .mapY(marker.mapY())
+                .imageUrl(marker.imgUrl())
+                .isFavorite(favoriteIds.contains(marker.businessId()))
+                .build();
+    }
 }
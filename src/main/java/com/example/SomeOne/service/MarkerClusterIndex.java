@@ -0,0 +1,175 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.enums.Business_category;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 줌 레벨별 마커 클러스터.
+ * 줌 레벨마다 화면상 약 60px 크기의 격자로 장소를 묶어 중심 좌표, 개수, 카테고리별 개수를 미리 계산해 둔다.
+ * 클러스터는 격자 칸마다 하나이므로 조회할 때는 화면 영역에 걸치는 칸만 확인하고,
+ * 소속 장소들의 영역이 화면과 겹치면 포함한다 (중심이 화면 밖이어도 가장자리에서 사라지지 않음).
+ * BusinessSpatialIndex가 다시 적재되면 다음 조회 때 전체 레벨을 다시 계산한다.
+ */
+@Component
+public class MarkerClusterIndex {
+
+    private static final double TILE_SIZE_PX = 256;
+    private static final double CLUSTER_RADIUS_PX = 60;
+    private static final double MAX_LONGITUDE = 180;
+    private static final double MAX_LATITUDE = 90;
+
+    private final BusinessSpatialIndex spatialIndex;
+    private final int maxClusterZoom;
+
+    private volatile Levels levels = new Levels(null, List.of());
+
+    public MarkerClusterIndex(BusinessSpatialIndex spatialIndex,
+                              @Value("${map.cluster.max-zoom:15}") int maxClusterZoom) {
+        this.spatialIndex = spatialIndex;
+        this.maxClusterZoom = maxClusterZoom;
+    }
+
+    // 장소가 하나뿐인 클러스터는 single에 해당 마커를 담는다. min/max는 소속 장소들의 경도/위도 범위
+    public record Cluster(double longitude, double latitude, int count,
+                          Map<Business_category, Integer> categoryCounts, BusinessSpatialIndex.Marker single,
+                          double minLongitude, double minLatitude, double maxLongitude, double maxLatitude) {
+
+        private boolean intersects(double minX, double minY, double maxX, double maxY) {
+            return minLongitude <= maxX && maxLongitude >= minX && minLatitude <= maxY && maxLatitude >= minY;
+        }
+    }
+
+    // 한 줌 레벨의 클러스터 (격자 칸 키 -> 클러스터)
+    private record Level(double cellDegrees, Map<Long, Cluster> cells) {
+    }
+
+    private record Levels(List<BusinessSpatialIndex.Marker> source, List<Level> byZoom) {
+    }
+
+    // 이 줌 레벨보다 확대하면 클러스터 없이 개별 마커를 반환
+    public boolean isClustered(int zoom) {
+        return zoom <= maxClusterZoom;
+    }
+
+    public List<Cluster> findWithin(double minX, double minY, double maxX, double maxY, int zoom) {
+        if (!BusinessSpatialIndex.isValidBounds(minX, minY, maxX, maxY)) {
+            throw new IllegalArgumentException("Invalid bounding box");
+        }
+        Level level = currentLevels().byZoom().get(Math.max(0, Math.min(zoom, maxClusterZoom)));
+        List<Cluster> result = new ArrayList<>();
+
+        long minCol = cell(clamp(minX, MAX_LONGITUDE), level.cellDegrees());
+        long maxCol = cell(clamp(maxX, MAX_LONGITUDE), level.cellDegrees());
+        long minRow = cell(clamp(minY, MAX_LATITUDE), level.cellDegrees());
+        long maxRow = cell(clamp(maxY, MAX_LATITUDE), level.cellDegrees());
+        double cellCount = (double) (maxCol - minCol + 1) * (maxRow - minRow + 1);
+
+        // 줌 레벨에 비해 넓은 영역은 칸을 하나씩 보는 것보다 전체를 훑는 편이 빠름
+        if (cellCount > level.cells().size()) {
+            for (Cluster cluster : level.cells().values()) {
+                if (cluster.intersects(minX, minY, maxX, maxY)) {
+                    result.add(cluster);
+                }
+            }
+            return result;
+        }
+
+        for (long row = minRow; row <= maxRow; row++) {
+            for (long col = minCol; col <= maxCol; col++) {
+                Cluster cluster = level.cells().get(key(row, col));
+                if (cluster != null && cluster.intersects(minX, minY, maxX, maxY)) {
+                    result.add(cluster);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Levels currentLevels() {
+        List<BusinessSpatialIndex.Marker> source = spatialIndex.all();
+        Levels current = levels;
+        if (current.source() != source) {
+            synchronized (this) {
+                current = levels;
+                if (current.source() != source) {
+                    current = build(source);
+                    levels = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Levels build(List<BusinessSpatialIndex.Marker> markers) {
+        List<Level> byZoom = new ArrayList<>(maxClusterZoom + 1);
+        for (int zoom = 0; zoom <= maxClusterZoom; zoom++) {
+            // 줌 레벨 z에서 타일 하나(256px)가 경도 360 / 2^z 도를 차지
+            double cellDegrees = CLUSTER_RADIUS_PX / TILE_SIZE_PX * 360.0 / (1L << zoom);
+
+            Map<Long, Accumulator> accumulators = new HashMap<>();
+            for (BusinessSpatialIndex.Marker marker : markers) {
+                long key = key(cell(marker.latitude(), cellDegrees), cell(marker.longitude(), cellDegrees));
+                accumulators.computeIfAbsent(key, k -> new Accumulator()).add(marker);
+            }
+
+            Map<Long, Cluster> cells = new HashMap<>(accumulators.size() * 4 / 3 + 1);
+            accumulators.forEach((key, accumulator) -> cells.put(key, accumulator.toCluster()));
+            byZoom.add(new Level(cellDegrees, Collections.unmodifiableMap(cells)));
+        }
+        return new Levels(markers, byZoom);
+    }
+
+    private static double clamp(double degrees, double limit) {
+        return Math.max(-limit, Math.min(limit, degrees));
+    }
+
+    private static long cell(double degrees, double cellDegrees) {
+        return (long) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(long row, long col) {
+        return (row << 32) ^ (col & 0xffffffffL);
+    }
+
+    private static final class Accumulator {
+        private int count;
+        private double longitudeSum;
+        private double latitudeSum;
+        private double minLongitude = Double.POSITIVE_INFINITY;
+        private double minLatitude = Double.POSITIVE_INFINITY;
+        private double maxLongitude = Double.NEGATIVE_INFINITY;
+        private double maxLatitude = Double.NEGATIVE_INFINITY;
+        private final Map<Business_category, Integer> categoryCounts = new EnumMap<>(Business_category.class);
+        private BusinessSpatialIndex.Marker first;
+
+        private void add(BusinessSpatialIndex.Marker marker) {
+            if (first == null) {
+                first = marker;
+            }
+            count++;
+            longitudeSum += marker.longitude();
+            latitudeSum += marker.latitude();
+            minLongitude = Math.min(minLongitude, marker.longitude());
+            minLatitude = Math.min(minLatitude, marker.latitude());
+            maxLongitude = Math.max(maxLongitude, marker.longitude());
+            maxLatitude = Math.max(maxLatitude, marker.latitude());
+            if (marker.category() != null) {
+                categoryCounts.merge(marker.category(), 1, Integer::sum);
+            }
+        }
+
+        private Cluster toCluster() {
+            return new Cluster(longitudeSum / count, latitudeSum / count, count,
+                    Collections.unmodifiableMap(categoryCounts), count == 1 ? first : null,
+                    minLongitude, minLatitude, maxLongitude, maxLatitude);
+        }
+    }
+}
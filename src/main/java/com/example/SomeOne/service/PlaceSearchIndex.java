@@ -0,0 +1,90 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.domain.Island;
+import com.example.SomeOne.domain.enums.Business_category;
+import com.example.SomeOne.repository.BusinessesRepository;
+import com.example.SomeOne.repository.IslandRepository;
+import com.example.SomeOne.utils.NgramIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장소/섬 검색 색인.
+ * 장소는 이름, 주소, 카테고리, 섬 이름을, 섬은 이름과 주소를 n-gram으로 색인해 LIKE '%검색어%' 전체 스캔 없이 찾는다.
+ * 장소/섬 데이터는 외부에서 적재되므로 주기적으로 전체를 다시 읽어 교체한다.
+ */
+@Slf4j
+@Component
+public class PlaceSearchIndex {
+
+    private static final List<NgramIndex.Field<PlaceDocument>> PLACE_FIELDS = List.of(
+            new NgramIndex.Field<>(PlaceDocument::name, 10.0),
+            new NgramIndex.Field<>(PlaceDocument::islandName, 4.0),
+            new NgramIndex.Field<>(document -> document.category() != null ? document.category().name() : null, 3.0),
+            new NgramIndex.Field<>(PlaceDocument::address, 2.0));
+
+    private static final List<NgramIndex.Field<Island>> ISLAND_FIELDS = List.of(
+            new NgramIndex.Field<>(Island::getName, 10.0),
+            new NgramIndex.Field<>(Island::getAddress, 2.0));
+
+    private final BusinessesRepository businessesRepository;
+    private final IslandRepository islandRepository;
+
+    private volatile NgramIndex<PlaceDocument> places = NgramIndex.empty();
+    private volatile NgramIndex<Island> islands = NgramIndex.empty();
+
+    public PlaceSearchIndex(BusinessesRepository businessesRepository, IslandRepository islandRepository) {
+        this.businessesRepository = businessesRepository;
+        this.islandRepository = islandRepository;
+    }
+
+    // 검색 색인과 자동완성이 함께 쓰는 장소 문서
+    public record PlaceDocument(Long businessId, String name, Business_category category, String address,
+                                String mapX, String mapY, String imgUrl, String islandName) {
+
+        public static PlaceDocument from(Businesses business) {
+            return new PlaceDocument(
+                    business.getBusiness_id(),
+                    business.getBusiness_name(),
+                    business.getBusinessType(),
+                    business.getAddress(),
+                    business.getX_address(),
+                    business.getY_address(),
+                    business.getImg_url(),
+                    business.getIsland() != null ? business.getIsland().getName() : null);
+        }
+    }
+
+    public List<PlaceDocument> searchPlaces(String keyword, int offset, int limit) {
+        return places.search(keyword, offset, limit);
+    }
+
+    public List<Island> searchIslands(String keyword, int offset, int limit) {
+        return islands.search(keyword, offset, limit);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${search.index.refresh-ms:600000}", initialDelayString = "${search.index.refresh-ms:600000}")
+    @Transactional(readOnly = true)
+    public void reload() {
+        long start = System.currentTimeMillis();
+
+        List<PlaceDocument> placeDocuments = new ArrayList<>();
+        for (Businesses business : businessesRepository.findAllWithIsland()) {
+            placeDocuments.add(PlaceDocument.from(business));
+        }
+
+        places = NgramIndex.build(placeDocuments, PLACE_FIELDS);
+        islands = NgramIndex.build(islandRepository.findAll(), ISLAND_FIELDS);
+        log.info("Place search index loaded: {} places, {} islands, {} ms",
+                places.size(), islands.size(), System.currentTimeMillis() - start);
+    }
+}
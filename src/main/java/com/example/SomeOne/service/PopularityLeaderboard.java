@@ -0,0 +1,226 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.BusinessRatingStats;
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.domain.enums.Business_category;
+import com.example.SomeOne.repository.BusinessesRepository;
+import com.example.SomeOne.repository.FavoritesRepository;
+import com.example.SomeOne.utils.CoalescingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.UnaryOperator;
+
+/**
+ * 섬 + 카테고리별 인기 장소 순위를 메모리에 유지한다.
+ * 처음 조회될 때 DB에서 한 번 적재하고, 이후에는 평점 집계/좋아요 변경 이벤트로 해당 장소만 다시 정렬한다.
+ * 적재하는 동안 들어온 변경이 그 보드의 장소에 해당하면 반영됐는지 알 수 없으므로 다음 조회 때 다시 적재한다.
+ *
+ * 점수 = 베이지안 평균 평점 (리뷰가 적은 장소는 사전 평균 쪽으로 당김) + 좋아요 가중치 * ln(1 + 좋아요 수)
+ */
+@Component
+public class PopularityLeaderboard {
+
+    private static final int MAX_BOARDS = 1000;
+
+    private final BusinessesRepository businessesRepository;
+    private final FavoritesRepository favoritesRepository;
+    private final double priorMean;
+    private final double priorWeight;
+    private final double favoriteWeight;
+
+    // 섬 + 카테고리별 보드 (같은 보드의 동시 적재는 한 번으로 합치고, DB 조회는 맵 잠금 밖에서 수행)
+    private final CoalescingCache<BoardKey, Board> boards =
+            new CoalescingCache<>("popularityBoards", MAX_BOARDS, (key, board, now) -> Long.MAX_VALUE);
+    private final Map<Long, BoardKey> boardByBusinessId = new ConcurrentHashMap<>();
+    private final Set<Board> loadingBoards = ConcurrentHashMap.newKeySet();
+
+    public PopularityLeaderboard(BusinessesRepository businessesRepository,
+                                 FavoritesRepository favoritesRepository,
+                                 @Value("${popularity.ranking.prior-mean:3.5}") double priorMean,
+                                 @Value("${popularity.ranking.prior-weight:5}") double priorWeight,
+                                 @Value("${popularity.ranking.favorite-weight:0.2}") double favoriteWeight) {
+        this.businessesRepository = businessesRepository;
+        this.favoritesRepository = favoritesRepository;
+        this.priorMean = priorMean;
+        this.priorWeight = priorWeight;
+        this.favoriteWeight = favoriteWeight;
+    }
+
+    public record RankedPlace(Long businessId, String name, String address, Business_category category,
+                              String imgUrl, long reviewCount, long ratingSum, long favoriteCount, double score) {
+
+        public double averageRating() {
+            return reviewCount == 0 ? 0.0 : (double) ratingSum / reviewCount;
+        }
+    }
+
+    // 점수 순 상위 장소 (offset부터 limit개)
+    public List<RankedPlace> top(Long islandId, Business_category category, int offset, int limit) {
+        Board board = board(islandId, category);
+        List<RankedPlace> result = new ArrayList<>(Math.min(limit, board.size()));
+        int index = 0;
+        for (RankedPlace place : board.ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (index++ >= offset) {
+                result.add(place);
+            }
+        }
+        return result;
+    }
+
+    // cursor 장소 바로 다음 순위부터 limit개 (cursor 장소가 순위에 없으면 처음부터)
+    public List<RankedPlace> after(Long islandId, Business_category category, Long cursorBusinessId, int limit) {
+        Board board = board(islandId, category);
+        RankedPlace cursor = board.byId.get(cursorBusinessId);
+        Iterable<RankedPlace> ranking = cursor != null ? board.ranking.tailSet(cursor, false) : board.ranking;
+
+        List<RankedPlace> result = new ArrayList<>(Math.min(limit, board.size()));
+        for (RankedPlace place : ranking) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(place);
+        }
+        return result;
+    }
+
+    public int size(Long islandId, Business_category category) {
+        return board(islandId, category).size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRatingStatsChanged(RatingStatsChangedEvent event) {
+        apply(event.businessId(), place -> withScore(place, event.reviewCount(), event.ratingSum(), place.favoriteCount()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFavoriteChanged(FavoriteChangedEvent event) {
+        long delta = event.added() ? 1 : -1;
+        apply(event.businessId(), place ->
+                withScore(place, place.reviewCount(), place.ratingSum(), Math.max(0, place.favoriteCount() + delta)));
+    }
+
+    // 다음 조회 때 DB에서 다시 적재 (매일 평점 집계 재계산 이후 전체 갱신, 적재 중인 보드는 캐시에 남지 않음)
+    @Scheduled(cron = "0 40 4 * * *", zone = "Asia/Seoul")
+    public void invalidateAll() {
+        boards.invalidateAll();
+        boardByBusinessId.clear();
+    }
+
+    private Board board(Long islandId, Business_category category) {
+        BoardKey key = new BoardKey(islandId, category);
+        Board board = boards.get(key, this::load);
+        finishLoading(key, board);
+        return board;
+    }
+
+    // 적재 중인 보드에는 변경된 장소를 기록하고, 적재가 끝난 보드에는 바로 반영
+    private void apply(Long businessId, UnaryOperator<RankedPlace> updater) {
+        loadingBoards.forEach(board -> board.changedWhileLoading.add(businessId));
+        BoardKey key = boardByBusinessId.get(businessId);
+        Board board = key != null ? boards.getIfPresent(key) : null;
+        if (board != null) {
+            board.update(businessId, updater);
+        }
+    }
+
+    // 적재하는 동안 이 보드의 장소가 바뀌었으면 DB 조회 결과에 반영됐는지 알 수 없으므로 다음 조회 때 다시 적재
+    // (적재한 요청과 기다린 요청 중 처음 끝난 쪽만 처리)
+    private void finishLoading(BoardKey key, Board board) {
+        if (!loadingBoards.remove(board)) {
+            return;
+        }
+        if (board.changedWhileLoading.stream().anyMatch(board.byId::containsKey)) {
+            boards.invalidate(key);
+        }
+        board.changedWhileLoading.clear();
+    }
+
+    private Board load(BoardKey key) {
+        Board board = new Board();
+        loadingBoards.add(board); // DB 조회 전에 등록해야 조회 도중의 변경도 기록됨
+        try {
+            fill(key, board);
+            return board;
+        } catch (RuntimeException e) {
+            loadingBoards.remove(board);
+            throw e;
+        }
+    }
+
+    private void fill(BoardKey key, Board board) {
+        Map<Long, Long> favoriteCounts = new HashMap<>();
+        for (Object[] row : favoritesRepository.countByIslandIdAndBusinessType(key.islandId(), key.category())) {
+            favoriteCounts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        for (Object[] row : businessesRepository.findWithRatingStats(key.islandId(), key.category())) {
+            Businesses business = (Businesses) row[0];
+            BusinessRatingStats stats = (BusinessRatingStats) row[1];
+            RankedPlace place = new RankedPlace(
+                    business.getBusiness_id(),
+                    business.getBusiness_name(),
+                    business.getAddress(),
+                    business.getBusinessType(),
+                    business.getImg_url(),
+                    0, 0, 0, 0.0);
+            board.put(withScore(place,
+                    stats != null ? stats.getReviewCount() : 0,
+                    stats != null ? stats.getRatingSum() : 0,
+                    favoriteCounts.getOrDefault(business.getBusiness_id(), 0L)));
+            boardByBusinessId.put(business.getBusiness_id(), key);
+        }
+    }
+
+    private RankedPlace withScore(RankedPlace place, long reviewCount, long ratingSum, long favoriteCount) {
+        double bayesianRating = (priorWeight * priorMean + ratingSum) / (priorWeight + reviewCount);
+        double score = bayesianRating + favoriteWeight * Math.log1p(favoriteCount);
+        return new RankedPlace(place.businessId(), place.name(), place.address(), place.category(), place.imgUrl(),
+                reviewCount, ratingSum, favoriteCount, score);
+    }
+
+    private record BoardKey(Long islandId, Business_category category) {
+    }
+
+    private static final class Board {
+        private static final Comparator<RankedPlace> ORDER = Comparator
+                .comparingDouble(RankedPlace::score).reversed()
+                .thenComparing(RankedPlace::businessId);
+
+        private final ConcurrentSkipListSet<RankedPlace> ranking = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<Long, RankedPlace> byId = new ConcurrentHashMap<>();
+        private final Set<Long> changedWhileLoading = ConcurrentHashMap.newKeySet();
+
+        private synchronized void put(RankedPlace place) {
+            RankedPlace previous = byId.put(place.businessId(), place);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(place);
+        }
+
+        private synchronized void update(Long businessId, UnaryOperator<RankedPlace> updater) {
+            RankedPlace current = byId.get(businessId);
+            if (current != null) {
+                put(updater.apply(current));
+            }
+        }
+
+        private int size() {
+            return byId.size();
+        }
+    }
+}
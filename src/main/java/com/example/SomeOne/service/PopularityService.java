@@ -8,11 +8,13 @@ import com.example.SomeOne.dto.Businesses.response.PopularityPlaceResponse;
 import com.example.SomeOne.dto.Businesses.response.ReviewResponse;
 import com.example.SomeOne.repository.BusinessReviewsRepository;
 import com.example.SomeOne.repository.BusinessesRepository;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -24,46 +26,38 @@ public class PopularityService {
     private final BusinessesRepository businessesRepository;
     private final BusinessReviewsRepository businessReviewsRepository;
     private final FavoritesService favoritesService;
+    private final PopularityLeaderboard leaderboard;
 
-    public List<PopularityPlaceResponse> listLandmark(Long userId, Long islandId) {
-        List<Businesses> businessesList = businessesRepository.
-                findByIslandIdAndBusinessTypeOrderByRatingDesc(islandId, Business_category.관광지);
-
-        return businessesList.stream()
-                .map(business -> {
-                    Double averageRating = businessesRepository.findAverageRatingByBusinessId(business.getBusiness_id());
-                    boolean status = favoritesService.findFavorite(userId, business.getBusiness_id());
-                    return new PopularityPlaceResponse(
-                            business.getBusiness_id(),
-                            business.getBusiness_name(),
-                            business.getAddress(),
-                            business.getBusinessType(),
-                            business.getImg_url(),
-                            averageRating != null ? averageRating : 0.0,
-                            status
-                    );
-                })
-                .collect(Collectors.toList());
+    public List<PopularityPlaceResponse> listLandmark(Long userId, Long islandId, int page, Long cursor, Integer size) {
+        return recommendPlaceList(userId, islandId, Business_category.관광지, page, cursor, size);
     }
 
-    public List<PopularityPlaceResponse> recommendPlaceList(Long userId, Long islandId, Business_category category) {
-        List<Businesses> businessesList = businessesRepository.
-                findByIslandIdAndBusinessTypeOrderByRatingDesc(islandId, category);
+    // cursor(이전 페이지 마지막 businessId)가 있으면 page 대신 그 다음 순위부터
+    public List<PopularityPlaceResponse> recommendPlaceList(Long userId, Long islandId, Business_category category,
+                                                            int page, Long cursor, Integer size) {
+        // 순위는 메모리에서 읽고, 좋아요 여부만 해당 페이지 장소들에 대해 한 번에 조회
+        Paging.Window window = Paging.window(page, size);
+        List<PopularityLeaderboard.RankedPlace> places = cursor != null
+                ? leaderboard.after(islandId, category, cursor, window.limit())
+                : leaderboard.top(islandId, category, window.offset(), window.limit());
+        if (places.isEmpty()) {
+            return List.of();
+        }
 
-        return businessesList.stream()
-                .map(business -> {
-                    Double averageRating = businessesRepository.findAverageRatingByBusinessId(business.getBusiness_id());
-                    boolean status = favoritesService.findFavorite(userId, business.getBusiness_id());
-                    return new PopularityPlaceResponse(
-                            business.getBusiness_id(),
-                            business.getBusiness_name(),
-                            business.getAddress(),
-                            business.getBusinessType(),
-                            business.getImg_url(),
-                            averageRating != null ? averageRating : 0.0,
-                            status
-                    );
-                })
+        Set<Long> favoriteIds = favoritesService.findFavoriteBusinessIds(userId,
+                places.stream().map(PopularityLeaderboard.RankedPlace::businessId).collect(Collectors.toList()));
+
+        return places.stream()
+                .map(place -> new PopularityPlaceResponse(
+                        place.businessId(),
+                        place.name(),
+                        place.address(),
+                        place.category(),
+                        place.imgUrl(),
+                        place.averageRating(),
+                        favoriteIds.contains(place.businessId()),
+                        place.reviewCount()
+                ))
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,5 @@
+package com.example.SomeOne.service;
+
+// 장소 평점 집계가 바뀐 뒤 발행 (커밋 후 랭킹 갱신용)
+public record RatingStatsChangedEvent(Long businessId, long reviewCount, long ratingSum) {
+}
@@ -0,0 +1,62 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.dao.IslandWeatherRegion;
+import com.example.SomeOne.dao.MidTermForecastDAO;
+import com.example.SomeOne.dao.ShortTermForecastDAO;
+import com.example.SomeOne.dao.WeatherDAO;
+import com.example.SomeOne.dto.weather.IslandForecastDTO;
+import com.example.SomeOne.dto.weather.MidTermForecastDTO;
+import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
+import com.example.SomeOne.dto.weather.WeatherNowDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+// WebClient 기반 날씨 조회. 외부 API 응답을 기다리는 동안 서블릿 스레드를 점유하지 않는다.
+@Service
+@RequiredArgsConstructor
+public class ReactiveWeatherService {
+
+    private final WeatherDAO weatherDAO;
+    private final ShortTermForecastDAO shortTermForecastDAO;
+    private final MidTermForecastDAO midTermForecastDAO;
+
+    public Mono<WeatherNowDTO> getCurrentWeather(int nx, int ny) {
+        return weatherDAO.getCurrentWeatherAsync(nx, ny);
+    }
+
+    public Mono<ShortTermForecastDTO> getShortTermForecast(int nx, int ny) {
+        return shortTermForecastDAO.getShortTermForecastAsync(nx, ny);
+    }
+
+    public Mono<MidTermForecastDTO> getMidTermLandFcst(String regId) {
+        return midTermForecastDAO.getMidTermLandFcstAsync(regId);
+    }
+
+    // 섬의 세 가지 예보를 동시에 조회 (하나가 실패해도 나머지는 반환)
+    public Mono<IslandForecastDTO> getIslandForecasts(Long islandId) {
+        IslandWeatherRegion region = IslandWeatherRegion.findByIslandId(islandId);
+        if (region == null) {
+            return Mono.empty();
+        }
+
+        return Mono.zip(
+                optional(getCurrentWeather(region.getNx(), region.getNy())),
+                optional(getShortTermForecast(region.getNx(), region.getNy())),
+                optional(getMidTermLandFcst(region.getMidTermRegId()))
+        ).map(tuple -> new IslandForecastDTO(
+                islandId,
+                tuple.getT1().orElse(null),
+                tuple.getT2().orElse(null),
+                tuple.getT3().orElse(null)
+        ));
+    }
+
+    private <T> Mono<Optional<T>> optional(Mono<T> source) {
+        return source.map(Optional::of)
+                .onErrorReturn(Optional.empty())
+                .defaultIfEmpty(Optional.empty());
+    }
+}
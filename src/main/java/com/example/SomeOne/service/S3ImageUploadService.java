@@ -1,26 +1,134 @@
 package com.example.SomeOne.service;
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.Headers;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CopyObjectRequest;
+import com.amazonaws.services.s3.model.CopyObjectResult;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.ObjectTagging;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.Tag;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.services.s3.transfer.Upload;
+import com.example.SomeOne.dto.Images.response.UploadSlotResponse;
 import com.example.SomeOne.exception.ImageStorageException;
+import com.example.SomeOne.utils.ShortLivedStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
+@Slf4j
 @Service
 public class S3ImageUploadService {
 
+    // 직접 업로드할 수 있는 형식과 확장자
+    private static final Map<String, String> UPLOAD_EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/gif", "gif",
+            "image/webp", "webp",
+            "image/heic", "heic");
+
+    // DeleteObjects 요청 한 번에 넣을 수 있는 최대 키 수
+    private static final int MAX_DELETE_KEYS = 1000;
+
+    // 확인되지 않은 직접 업로드 표시 (버킷 수명 주기 규칙으로 하루 뒤 삭제)
+    private static final Tag PENDING_TAG = new Tag("upload", "pending");
+    private static final String PENDING_UPLOAD_TAG = PENDING_TAG.getKey() + "=" + PENDING_TAG.getValue();
+
+    // 확인 중인 직접 업로드 선점 표시. 같은 업로드를 동시에 두 번 복사해 붙이지 못하게 한다 (pending 객체 수명과 같음)
+    private static final String CLAIM_KEY_PREFIX = "upload:claim:";
+    private static final Duration CLAIM_TTL = Duration.ofDays(1);
+
+    // 형식 판별에 읽을 앞부분 크기
+    private static final int SNIFF_BYTES = 16;
+
     @Autowired
     private AmazonS3Client amazonS3Client;
 
+    @Autowired
+    private ShortLivedStore shortLivedStore;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    // 동시에 업로드할 최대 요청 수 (파일 수 + 멀티파트 파트 수)
+    @Value("${s3.upload.threads:8}")
+    private int uploadThreads;
+
+    // 이 크기 이상이면 멀티파트 업로드
+    @Value("${s3.upload.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+
+    // presigned 업로드 URL 유효 시간
+    @Value("${s3.presigned.expiry-minutes:10}")
+    private long presignedExpiryMinutes;
+
+    // 한 번에 발급할 수 있는 업로드 슬롯 수
+    @Value("${s3.presigned.max-slots:10}")
+    private int presignedMaxSlots;
+
+    // 직접 업로드한 파일의 최대 크기
+    @Value("${s3.presigned.max-size-mb:20}")
+    private long presignedMaxSizeMb;
+
+    private TransferManager transferManager;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3Client)
+                .withMultipartUploadThreshold(multipartThresholdMb * 1024 * 1024)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "s3-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }))
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transferManager.shutdownNow(false); // 공용 S3 클라이언트는 닫지 않음
+    }
+
     public String saveImage(MultipartFile image) {
         try {
             String fileName = generateFileName(image);
@@ -31,18 +139,352 @@ public class S3ImageUploadService {
         }
     }
 
+    // 트랜잭션 밖에서 올리거나 확인을 마친 이미지 (imageUrls는 입력 순서: 멀티파트 다음 직접 업로드)
+    // confirmedKeys는 직접 업로드를 복사해 둔 서버 키
+    public record StagedImages(List<String> imageUrls, List<String> uploadedKeys, List<String> confirmedKeys) {
+    }
+
+    // 멀티파트 이미지는 S3에 동시에 업로드하고, 직접 업로드한 이미지는 서버 키로 복사해 확인한다.
+    // DB 커넥션을 잡은 채 S3 전송을 기다리지 않도록 트랜잭션을 열기 전에 호출하고, 이후 저장이 실패하면 discard로 되돌린다.
+    public StagedImages stageImages(Long userId, List<MultipartFile> images, List<String> imageKeys) {
+        List<String> uploadedKeys = uploadAll(images);
+        List<String> confirmedKeys = new ArrayList<>();
+        try {
+            confirmUploads(userId, imageKeys, confirmedKeys);
+        } catch (RuntimeException e) {
+            discard(new StagedImages(List.of(), uploadedKeys, confirmedKeys));
+            throw e;
+        }
+
+        List<String> imageUrls = new ArrayList<>(uploadedKeys.size() + confirmedKeys.size());
+        uploadedKeys.forEach(key -> imageUrls.add(amazonS3Client.getUrl(bucket, key).toString()));
+        confirmedKeys.forEach(key -> imageUrls.add(amazonS3Client.getUrl(bucket, key).toString()));
+        return new StagedImages(imageUrls, uploadedKeys, confirmedKeys);
+    }
+
+    // 저장에 실패한 이미지 정리: 올린 객체와 복사본을 지운다 (직접 업로드 원본은 확인할 때 이미 지웠으므로 다시 올려야 함)
+    public void discard(StagedImages staged) {
+        deleteQuietly(staged.uploadedKeys());
+        deleteQuietly(staged.confirmedKeys());
+    }
+
+    // 여러 이미지를 동시에 업로드하고 입력 순서대로 키 반환. 하나라도 실패하면 이미 올린 이미지를 지우고 예외.
+    private List<String> uploadAll(List<MultipartFile> images) {
+        if (images == null || images.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> fileNames = new ArrayList<>(images.size());
+        List<Upload> uploads = new ArrayList<>(images.size());
+        try {
+            for (MultipartFile image : images) {
+                String fileName = generateFileName(image);
+                fileNames.add(fileName);
+                uploads.add(transferManager.upload(createPutRequest(image, fileName)));
+            }
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+        } catch (IOException | AmazonClientException e) {
+            abortAndDelete(uploads, fileNames);
+            throw new ImageStorageException("Failed to store files in S3", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortAndDelete(uploads, fileNames);
+            throw new ImageStorageException("Interrupted while storing files in S3", e);
+        }
+        return fileNames;
+    }
+
+    // 저장된 이미지 원본을 내려받음 (이미지 변환용)
+    public byte[] downloadImage(String imageUrl) throws IOException {
+        try (S3Object object = amazonS3Client.getObject(bucket, extractKey(imageUrl));
+             InputStream input = object.getObjectContent()) {
+            return input.readAllBytes();
+        }
+    }
+
+    // 원본 키 옆에 변환본 저장 (예: uuid-photo_thumb.jpg), 키가 바뀌지 않으므로 오래 캐싱하도록 지정
+    public String saveRendition(String sourceUrl, String suffix, byte[] jpeg) {
+        String sourceKey = extractKey(sourceUrl);
+        int extension = sourceKey.lastIndexOf('.');
+        String fileName = (extension > 0 ? sourceKey.substring(0, extension) : sourceKey) + "_" + suffix + ".jpg";
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType("image/jpeg");
+        metadata.setContentLength(jpeg.length);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        try {
+            amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, new ByteArrayInputStream(jpeg), metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        } catch (AmazonClientException e) {
+            throw new ImageStorageException("Failed to store rendition in S3", e);
+        }
+        return amazonS3Client.getUrl(bucket, fileName).toString();
+    }
+
+    // DeleteObjects로 일괄 삭제하고 실패한 키 반환 (요청 한 번에 최대 1000개)
+    public Set<String> deleteKeys(Collection<String> keys) {
+        Set<String> failed = new HashSet<>();
+        List<String> remaining = new ArrayList<>(keys);
+        for (int from = 0; from < remaining.size(); from += MAX_DELETE_KEYS) {
+            List<String> chunk = remaining.subList(from, Math.min(remaining.size(), from + MAX_DELETE_KEYS));
+            try {
+                amazonS3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                        .withKeys(chunk.toArray(new String[0]))
+                        .withQuiet(true));
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> failed.add(error.getKey()));
+            } catch (AmazonClientException e) {
+                log.warn("Failed to delete {} objects from S3", chunk.size(), e);
+                failed.addAll(chunk);
+            }
+        }
+        return failed;
+    }
+
+    // 버킷의 모든 객체를 페이지 단위로 순회 (고아 객체 정리용)
+    public void forEachObject(Consumer<S3ObjectSummary> action) {
+        ListObjectsV2Request request = new ListObjectsV2Request().withBucketName(bucket);
+        ListObjectsV2Result result;
+        do {
+            result = amazonS3Client.listObjectsV2(request);
+            result.getObjectSummaries().forEach(action);
+            request.setContinuationToken(result.getNextContinuationToken());
+        } while (result.isTruncated());
+    }
+
+    // getUrl로 만든 URL에서 키 추출 (https://{bucket}.s3.../{key} 또는 https://s3.../{bucket}/{key})
+    public String extractKey(String imageUrl) {
+        String path = URI.create(imageUrl).getRawPath().substring(1);
+        if (path.startsWith(bucket + "/")) {
+            path = path.substring(bucket.length() + 1);
+        }
+        return URLDecoder.decode(path, StandardCharsets.UTF_8);
+    }
+
+    // 클라이언트가 S3에 직접 PUT할 presigned URL 발급. 키는 사용자별 경로에 만들어 다른 사용자가 확인할 수 없게 한다.
+    // 업로드 객체는 비공개이며, 확인할 때 서버 키로 복사한 공개 복사본만 기록/리뷰에 붙는다.
+    public List<UploadSlotResponse> createUploadSlots(Long userId, List<String> contentTypes) {
+        if (contentTypes == null || contentTypes.isEmpty()) {
+            throw new IllegalArgumentException("At least one content type is required");
+        }
+        if (contentTypes.size() > presignedMaxSlots) {
+            throw new IllegalArgumentException("Too many upload slots requested (max " + presignedMaxSlots + ")");
+        }
+
+        Date expiration = new Date(System.currentTimeMillis() + presignedExpiryMinutes * 60 * 1000L);
+        List<UploadSlotResponse> slots = new ArrayList<>(contentTypes.size());
+        for (String contentType : contentTypes) {
+            String extension = UPLOAD_EXTENSIONS.get(contentType);
+            if (extension == null) {
+                throw new IllegalArgumentException("Unsupported content type: " + contentType);
+            }
+            String key = uploadPrefix(userId) + UUID.randomUUID() + "." + extension;
+
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put(Headers.CONTENT_TYPE, contentType);
+            headers.put(Headers.S3_TAGGING, PENDING_UPLOAD_TAG);
+
+            GeneratePresignedUrlRequest request = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+                    .withExpiration(expiration)
+                    .withContentType(contentType);
+            request.putCustomRequestHeader(Headers.S3_TAGGING, PENDING_UPLOAD_TAG);
+
+            String uploadUrl = amazonS3Client.generatePresignedUrl(request).toString();
+            slots.add(new UploadSlotResponse(key, uploadUrl, headers, expiration.getTime()));
+        }
+        return slots;
+    }
+
+    // 직접 업로드한 객체를 서버 키로 복사해 확인하고 복사본 키를 confirmedKeys에 추가.
+    // 키를 먼저 원자적으로 선점해 같은 업로드를 한 번만 붙일 수 있게 한다.
+    // 도중에 실패하면 호출한 쪽이 이미 만든 복사본을 지운다.
+    private void confirmUploads(Long userId, List<String> keys, List<String> confirmedKeys) {
+        if (keys == null || keys.isEmpty()) {
+            return;
+        }
+        if (keys.stream().distinct().count() != keys.size()) {
+            throw new IllegalArgumentException("Duplicate image keys");
+        }
+
+        for (String key : keys) {
+            if (key == null || !key.startsWith(uploadPrefix(userId))) {
+                throw new IllegalArgumentException("Invalid image key: " + key);
+            }
+            // 동시에 같은 키를 확인하는 요청 중 하나만 통과
+            if (!shortLivedStore.putIfAbsent(CLAIM_KEY_PREFIX + key, String.valueOf(userId), CLAIM_TTL)) {
+                throw new IllegalArgumentException("Uploaded image is already in use: " + key);
+            }
+            try {
+                confirmedKeys.add(confirmUpload(key));
+            } catch (RuntimeException e) {
+                releaseClaim(key);
+                throw e;
+            }
+        }
+    }
+
+    // presigned URL이 만료될 때까지 클라이언트가 업로드 키에 다시 쓸 수 있으므로, 서버만 쓰는 키로 복사한 뒤 복사본을 검사하고
+    // 업로드 키는 지운다. 복사본에는 pending 태그를 붙이지 않아 수명 주기 규칙에 지워지지 않는다.
+    private String confirmUpload(String key) {
+        String contentType = expectedContentType(key);
+        ObjectMetadata uploaded = getMetadata(key);
+        if (uploaded.getContentLength() > presignedMaxSizeMb * 1024 * 1024) {
+            throw new IllegalArgumentException("Uploaded image is too large: " + key);
+        }
+
+        String imageKey = UUID.randomUUID() + key.substring(key.lastIndexOf('.'));
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(contentType);
+        metadata.setCacheControl("public, max-age=31536000, immutable");
+        CopyObjectResult copied;
+        try {
+            // 확인한 시점의 객체가 그대로일 때만 복사
+            copied = amazonS3Client.copyObject(new CopyObjectRequest(bucket, key, bucket, imageKey)
+                    .withMatchingETagConstraint(uploaded.getETag())
+                    .withNewObjectMetadata(metadata)
+                    .withNewObjectTagging(new ObjectTagging(List.of()))
+                    .withCannedAccessControlList(CannedAccessControlList.PublicRead));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("Uploaded image not found: " + key);
+            }
+            throw new ImageStorageException("Failed to copy uploaded image", e);
+        } catch (AmazonClientException e) {
+            throw new ImageStorageException("Failed to copy uploaded image", e);
+        }
+        if (copied == null) {
+            throw new IllegalArgumentException("Uploaded image changed during confirmation: " + key);
+        }
+
+        try {
+            verifyImage(imageKey, contentType);
+        } catch (RuntimeException e) {
+            deleteQuietly(List.of(imageKey));
+            throw e;
+        }
+        deleteQuietly(List.of(key)); // 남아도 pending 태그로 수명 주기 규칙이 지운다
+        return imageKey;
+    }
+
+    // 복사본의 크기와 실제 앞부분 바이트로 형식 확인 (클라이언트가 선언한 Content-Type은 믿지 않음)
+    private void verifyImage(String imageKey, String contentType) {
+        if (getMetadata(imageKey).getContentLength() > presignedMaxSizeMb * 1024 * 1024) {
+            throw new IllegalArgumentException("Uploaded image is too large");
+        }
+        if (!contentType.equals(sniffContentType(readHead(imageKey)))) {
+            throw new IllegalArgumentException("Uploaded file is not a supported image");
+        }
+    }
+
+    private ObjectMetadata getMetadata(String key) {
+        try {
+            return amazonS3Client.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                throw new IllegalArgumentException("Uploaded image not found: " + key);
+            }
+            throw new ImageStorageException("Failed to verify uploaded image", e);
+        }
+    }
+
+    // 업로드 슬롯을 만들 때 형식에 맞춰 붙인 확장자로 기대 형식 결정
+    private static String expectedContentType(String key) {
+        String extension = key.substring(key.lastIndexOf('.') + 1);
+        return UPLOAD_EXTENSIONS.entrySet().stream()
+                .filter(entry -> entry.getValue().equals(extension))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Invalid image key: " + key));
+    }
+
+    // 범위 GET으로 객체 앞부분만 읽음
+    private byte[] readHead(String key) {
+        try (S3Object object = amazonS3Client.getObject(new GetObjectRequest(bucket, key).withRange(0, SNIFF_BYTES - 1));
+             InputStream input = object.getObjectContent()) {
+            return input.readNBytes(SNIFF_BYTES);
+        } catch (IOException | AmazonClientException e) {
+            throw new ImageStorageException("Failed to read uploaded image", e);
+        }
+    }
+
+    // 매직 넘버로 업로드 가능한 이미지 형식 판별 (해당 없으면 null)
+    private static String sniffContentType(byte[] head) {
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(head, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(head, 0, 'G', 'I', 'F', '8', '7', 'a') || startsWith(head, 0, 'G', 'I', 'F', '8', '9', 'a')) {
+            return "image/gif";
+        }
+        if (startsWith(head, 0, 'R', 'I', 'F', 'F') && startsWith(head, 8, 'W', 'E', 'B', 'P')) {
+            return "image/webp";
+        }
+        if (startsWith(head, 4, 'f', 't', 'y', 'p') && head.length >= 12) {
+            String brand = new String(head, 8, 4, StandardCharsets.US_ASCII);
+            if (Set.of("heic", "heix", "heim", "heis", "hevc", "hevx", "mif1", "msf1").contains(brand)) {
+                return "image/heic";
+            }
+        }
+        return null;
+    }
+
+    private static boolean startsWith(byte[] data, int offset, int... expected) {
+        if (data.length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((data[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void releaseClaim(String key) {
+        shortLivedStore.remove(CLAIM_KEY_PREFIX + key);
+    }
+
+    private String uploadPrefix(Long userId) {
+        return "uploads/" + userId + "/";
+    }
+
     private String generateFileName(MultipartFile image) {
         return UUID.randomUUID().toString() + "-" + image.getOriginalFilename();
     }
 
     private String uploadToS3(MultipartFile image, String fileName) throws IOException {
+        amazonS3Client.putObject(createPutRequest(image, fileName));
+
+        return amazonS3Client.getUrl(bucket, fileName).toString();
+    }
+
+    private PutObjectRequest createPutRequest(MultipartFile image, String fileName) throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentType(image.getContentType());
         metadata.setContentLength(image.getSize());
 
-        amazonS3Client.putObject(new PutObjectRequest(bucket, fileName, image.getInputStream(), metadata)
-                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return new PutObjectRequest(bucket, fileName, image.getInputStream(), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+    }
 
-        return amazonS3Client.getUrl(bucket, fileName).toString();
+    private void abortAndDelete(List<Upload> uploads, List<String> fileNames) {
+        for (Upload upload : uploads) {
+            if (!upload.isDone()) {
+                upload.abort();
+            }
+        }
+        deleteQuietly(fileNames);
+    }
+
+    // 아직 올라가지 않은 키가 섞여 있어도 되고, 실패해도 원래 오류를 가리지 않도록 로그만 남긴다
+    private void deleteQuietly(List<String> fileNames) {
+        Set<String> failed = deleteKeys(fileNames);
+        if (!failed.isEmpty()) {
+            log.warn("Failed to clean up uploaded images: {}", failed);
+        }
     }
-}
\ No newline at end of file
+}
@@ -10,6 +10,7 @@ import com.example.SomeOne.dto.TravelPlans.response.AddPlaceResponse;
 import com.example.SomeOne.repository.TravelPlaceRepository;
 import com.example.SomeOne.repository.TravelPlansRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,6 +27,7 @@ public class TravelPlaceService {
     private final TravelPlansRepository travelPlansRepository;
     private final BusinessesService businessesService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public AddPlaceResponse addPlace(Long userId, Long travelPlanId, Long businessId, LocalDate date) {
@@ -40,6 +42,7 @@ public class TravelPlaceService {
                 .date(date).placeOrder(size + 1).build();
 
         TravelPlace place = travelPlaceRepository.save(travelPlace);
+        eventPublisher.publishEvent(new TravelPlacesChangedEvent(travelPlan.getUser().getUsers_id()));
 
         AddPlaceResponse response = new AddPlaceResponse(place.getPlace_id());
         return response;
@@ -82,6 +85,7 @@ public class TravelPlaceService {
         travelPlace.getTravelPlans().getTravelPlaces().remove(travelPlace);
 
         travelPlaceRepository.delete(travelPlace);
+        eventPublisher.publishEvent(new TravelPlacesChangedEvent(planUser));
     }
 
     @Transactional
@@ -91,6 +95,8 @@ public class TravelPlaceService {
             TravelPlace travelPlace = findById(travelPlaceId);
             travelPlace.update(request.get(i).getOrder(), request.get(i).getDate());
         }
+        // 방문 날짜가 바뀌면 내 장소 목록의 최근 방문일도 달라짐
+        eventPublisher.publishEvent(new TravelPlacesChangedEvent(userId));
     }
 
     @Transactional
@@ -0,0 +1,5 @@
+package com.example.SomeOne.service;
+
+// 사용자의 여행 장소가 추가/삭제/변경된 뒤 발행 (커밋 후 내 장소 캐시 무효화용)
+public record TravelPlacesChangedEvent(Long userId) {
+}
@@ -8,7 +8,10 @@ import com.example.SomeOne.dto.TravelPlans.response.SaveTravelResponse;
 import com.example.SomeOne.dto.TravelPlans.response.TravelPlaceResponse;
 import com.example.SomeOne.dto.weather.WeatherNowDTO;
 import com.example.SomeOne.repository.TravelPlansRepository;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +30,7 @@ public class TravelPlansService {
     private final TravelPlaceService travelPlaceService;
     private final UserService userService;
     private final WeatherService weatherService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public SaveTravelResponse save(Long userId, TravelPlanRequest request) {
@@ -42,9 +46,18 @@ public class TravelPlansService {
         return new SaveTravelResponse(travelPlan.getPlanId());
     }
 
-    public List<GetPlansResponse> getPlan(Long userId) {
+    // 시작일 최신순 (cursor: 이전 페이지 마지막 planId, size가 없으면 전체)
+    public List<GetPlansResponse> getPlan(Long userId, Long cursor, Integer size) {
+        Pageable pageable = Paging.pageable(size);
         Users user = userService.findById(userId);
-        List<TravelPlans> planList = travelPlansRepository.findByUserOrderByStartDateDesc(user);
+        LocalDate cursorDate = null;
+        if (cursor != null) {
+            // 커서는 본인 계획 중에서만 찾음 (다른 사용자나 삭제된 계획이면 400)
+            cursorDate = travelPlansRepository.findByPlanIdAndUser(cursor, user)
+                    .map(TravelPlans::getStartDate)
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid cursor: " + cursor));
+        }
+        List<TravelPlans> planList = travelPlansRepository.findPageByUser(user, cursorDate, cursor, pageable);
 
         return planList.stream().map(p -> new GetPlansResponse(
                 p.getPlanId(),
@@ -68,6 +81,7 @@ public class TravelPlansService {
         }
 
         travelPlansRepository.delete(plan);
+        eventPublisher.publishEvent(new TravelPlacesChangedEvent(userId));
     }
 
     public TravelPlans findById(Long id) {
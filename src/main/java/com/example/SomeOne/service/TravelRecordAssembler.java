@@ -0,0 +1,166 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.BusinessReviewImages;
+import com.example.SomeOne.domain.BusinessReviews;
+import com.example.SomeOne.domain.Businesses;
+import com.example.SomeOne.domain.RecordImages;
+import com.example.SomeOne.domain.TravelPlace;
+import com.example.SomeOne.domain.TravelPlans;
+import com.example.SomeOne.domain.TravelRecords;
+import com.example.SomeOne.dto.Businesses.response.BusinessReviewResponse;
+import com.example.SomeOne.dto.TravelRecords.Response.TravelRecordResponse;
+import com.example.SomeOne.repository.BusinessReviewImagesRepository;
+import com.example.SomeOne.repository.BusinessReviewsRepository;
+import com.example.SomeOne.repository.TravelPlaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 여행 기록 응답 조립.
+ * 기록 여러 개의 여행 장소, 리뷰, 리뷰 이미지를 각각 IN 쿼리 한 번씩으로 읽고 메모리에서 날짜별로 묶는다.
+ * 기록 수나 장소 수와 관계없이 쿼리 수가 일정하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TravelRecordAssembler {
+
+    private final TravelPlaceRepository travelPlaceRepository;
+    private final BusinessReviewsRepository businessReviewsRepository;
+    private final BusinessReviewImagesRepository businessReviewImagesRepository;
+
+    // 계획, 섬, 작성자, 기록 이미지가 함께 로딩된 기록을 응답으로 변환 (순서 유지)
+    public List<TravelRecordResponse> assemble(List<TravelRecords> records) {
+        List<PlanOwner> owners = records.stream()
+                .map(record -> new PlanOwner(record.getPlan().getPlanId(), record.getUser().getUsers_id()))
+                .collect(Collectors.toList());
+        Map<PlanOwner, Map<LocalDate, List<BusinessReviewResponse>>> reviews = reviewsByDate(owners);
+
+        return records.stream()
+                .map(record -> {
+                    TravelPlans plan = record.getPlan();
+                    PlanOwner owner = new PlanOwner(plan.getPlanId(), record.getUser().getUsers_id());
+                    return new TravelRecordResponse(
+                            record.getRecordId(),
+                            record.getRecordTitle(),
+                            record.getRecordContent(),
+                            record.getRecordImages().stream()
+                                    .map(RecordImages::getFullOrOriginalUrl)
+                                    .collect(Collectors.toList()),
+                            record.getRecordImages().stream()
+                                    .map(RecordImages::getThumbnailOrOriginalUrl)
+                                    .collect(Collectors.toList()),
+                            record.getPublicPrivate(),
+                            plan.getPlanId(),
+                            plan.getPlan_name(),
+                            plan.getStartDate(),
+                            plan.getEndDate(),
+                            plan.getIsland() != null ? plan.getIsland().getName() : null,
+                            plan.getStatus(),
+                            record.getUser().getUsers_id(),
+                            reviews.getOrDefault(owner, new HashMap<>()),
+                            plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도
+                            plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도
+                    );
+                })
+                .collect(Collectors.toList());
+    }
+
+    // 한 계획에서 사용자가 방문한 장소의 리뷰를 여행 날짜별로 묶음
+    public Map<LocalDate, List<BusinessReviewResponse>> reviewsByDate(Long planId, Long userId) {
+        PlanOwner owner = new PlanOwner(planId, userId);
+        return reviewsByDate(List.of(owner)).getOrDefault(owner, new HashMap<>());
+    }
+
+    private record PlanOwner(Long planId, Long userId) {
+    }
+
+    private record ReviewKey(Long userId, Long businessId) {
+    }
+
+    private Map<PlanOwner, Map<LocalDate, List<BusinessReviewResponse>>> reviewsByDate(List<PlanOwner> owners) {
+        Map<PlanOwner, Map<LocalDate, List<BusinessReviewResponse>>> result = new HashMap<>();
+        if (owners.isEmpty()) {
+            return result;
+        }
+
+        // 1) 모든 계획의 여행 장소 (비즈니스 포함)
+        Set<Long> planIds = owners.stream().map(PlanOwner::planId).collect(Collectors.toSet());
+        Map<Long, List<TravelPlace>> placesByPlan = travelPlaceRepository.findWithBusinessByPlanIdIn(planIds).stream()
+                .collect(Collectors.groupingBy(place -> place.getTravelPlans().getPlanId()));
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> businessIds = new HashSet<>();
+        for (PlanOwner owner : owners) {
+            List<TravelPlace> places = placesByPlan.get(owner.planId());
+            if (places == null) {
+                continue;
+            }
+            userIds.add(owner.userId());
+            for (TravelPlace place : places) {
+                if (place.getBusinesses() != null) {
+                    businessIds.add(place.getBusinesses().getBusiness_id());
+                }
+            }
+        }
+        if (businessIds.isEmpty()) {
+            return result;
+        }
+
+        // 2) 해당 사용자/장소의 리뷰
+        Map<ReviewKey, BusinessReviews> reviewByKey = new HashMap<>();
+        for (BusinessReviews review : businessReviewsRepository.findByUserIdInAndBusinessIdIn(userIds, businessIds)) {
+            reviewByKey.putIfAbsent(new ReviewKey(review.getUser().getUsers_id(), review.getBusiness().getBusiness_id()), review);
+        }
+        if (reviewByKey.isEmpty()) {
+            return result;
+        }
+
+        // 3) 리뷰 이미지
+        Map<Long, List<BusinessReviewImages>> imagesByReview = new HashMap<>();
+        Set<Long> reviewIds = reviewByKey.values().stream().map(BusinessReviews::getReviewId).collect(Collectors.toSet());
+        for (BusinessReviewImages image : businessReviewImagesRepository.findByReviewIdIn(reviewIds)) {
+            imagesByReview.computeIfAbsent(image.getReview().getReviewId(), k -> new ArrayList<>()).add(image);
+        }
+
+        // 계획의 장소 순서대로, 리뷰가 있는 장소만 여행 날짜별로 추가
+        for (PlanOwner owner : owners) {
+            if (result.containsKey(owner)) {
+                continue;
+            }
+            Map<LocalDate, List<BusinessReviewResponse>> groupedReviews = new HashMap<>();
+            for (TravelPlace place : placesByPlan.getOrDefault(owner.planId(), List.of())) {
+                Businesses business = place.getBusinesses();
+                if (business == null) {
+                    continue;
+                }
+                BusinessReviews review = reviewByKey.get(new ReviewKey(owner.userId(), business.getBusiness_id()));
+                if (review != null) {
+                    List<BusinessReviewImages> images = imagesByReview.getOrDefault(review.getReviewId(), List.of());
+                    BusinessReviewResponse response = BusinessReviewResponse.builder()
+                            .id(review.getReviewId())
+                            .businessId(business.getBusiness_id())
+                            .userId(owner.userId())
+                            .rating(review.getRating())
+                            .businessReview(review.getBusinessReview())
+                            .imageUrls(images.stream().map(BusinessReviewImages::getFullOrOriginalUrl).collect(Collectors.toList()))
+                            .thumbnailUrls(images.stream().map(BusinessReviewImages::getThumbnailOrOriginalUrl).collect(Collectors.toList()))
+                            .xAddress(business.getX_address())
+                            .yAddress(business.getY_address())
+                            .build();
+                    groupedReviews.computeIfAbsent(place.getDate(), k -> new ArrayList<>()).add(response);
+                }
+            }
+            result.put(owner, groupedReviews);
+        }
+        return result;
+    }
+}
@@ -1,17 +1,17 @@
 package com.example.SomeOne.service;
 
-import com.amazonaws.services.s3.AmazonS3;
 import com.example.SomeOne.config.SecurityUtil;
 import com.example.SomeOne.domain.*;
 import com.example.SomeOne.dto.Businesses.response.BusinessReviewResponse;
 import com.example.SomeOne.dto.TravelRecords.Request.CreateTravelRecordRequest;
 import com.example.SomeOne.dto.TravelRecords.Response.TravelRecordResponse;
-import com.example.SomeOne.exception.ImageStorageException;
 import com.example.SomeOne.repository.*;
+import com.example.SomeOne.utils.Paging;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
@@ -23,21 +23,27 @@ import java.util.stream.Collectors;
 public class TravelRecordsService {
 
     private final TravelRecordsRepository travelRecordsRepository;
-    private final BusinessReviewsRepository businessReviewsRepository;
-    private final BusinessReviewImagesRepository businessReviewImagesRepository;
     private final TravelPlansRepository travelPlansRepository;
-    private final TravelPlaceRepository travelPlaceRepository;
     private final RecordImagesRepository recordImagesRepository;
     private final UserRepository userRepository;
     private final S3ImageUploadService s3ImageUploadService;
-    private final AmazonS3 amazonS3Client;
+    private final TravelRecordAssembler travelRecordAssembler;
+    private final ImageDeletionService imageDeletionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${cloud.aws.s3.bucket}")
-    private String bucket;
-
-    // 여행 기록 생성
-    @Transactional
+    // 여행 기록 생성 (S3 전송은 트랜잭션을 열기 전에 끝내고, 저장이 실패하면 올린 이미지를 되돌림)
     public TravelRecordResponse create(List<MultipartFile> images, CreateTravelRecordRequest request, Long userId) {
+        S3ImageUploadService.StagedImages staged = s3ImageUploadService.stageImages(userId, images, request.getImageKeys());
+        try {
+            return transactionTemplate.execute(status -> createRecord(staged.imageUrls(), request, userId));
+        } catch (RuntimeException e) {
+            s3ImageUploadService.discard(staged);
+            throw e;
+        }
+    }
+
+    private TravelRecordResponse createRecord(List<String> imageUrls, CreateTravelRecordRequest request, Long userId) {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
 
@@ -60,9 +66,9 @@ public class TravelRecordsService {
                 .publicPrivate(request.isPublicPrivate())
                 .build();
 
-        // 이미지 저장 및 여행 기록 저장
-        List<String> imageUrls = saveImages(images, record);
+        // 여행 기록 저장 및 이미지 저장
         TravelRecords savedRecord = travelRecordsRepository.save(record);
+        saveImages(imageUrls, savedRecord);
 
         // 비즈니스 리뷰 처리
         Map<LocalDate, List<BusinessReviewResponse>> businessReviewResponses = handleBusinessReviews(plan, user);
@@ -73,6 +79,7 @@ public class TravelRecordsService {
                 savedRecord.getRecordTitle(),
                 savedRecord.getRecordContent(),
                 imageUrls,
+                imageUrls,  // 썸네일은 커밋 후 생성되므로 원본
                 savedRecord.getPublicPrivate(),
                 plan.getPlanId(),
                 plan.getPlan_name(),
@@ -88,65 +95,45 @@ public class TravelRecordsService {
     }
 
 
-    // 이미지 저장 메서드
-    private List<String> saveImages(List<MultipartFile> images, TravelRecords record) {
-        List<String> imageUrls = new ArrayList<>();
-        for (MultipartFile image : images) {
-            String imageUrl = s3ImageUploadService.saveImage(image);
-            imageUrls.add(imageUrl);
-
+    // 이미지 행 저장 (S3에는 이미 올라가 있음)
+    private void saveImages(List<String> imageUrls, TravelRecords record) {
+        List<RecordImages> recordImages = new ArrayList<>(imageUrls.size());
+        for (String imageUrl : imageUrls) {
             // RecordImages 객체 생성
             RecordImages recordImage = RecordImages.builder()
                     .imageUrl(imageUrl)
                     .record(record)
                     .build();
-
-            // RecordImages 엔티티 저장
-            recordImagesRepository.save(recordImage);
+            recordImages.add(recordImage);
 
             record.addRecordImage(recordImage);  // TravelRecords에 이미지 추가
         }
-        return imageUrls;
+        recordImagesRepository.saveAll(recordImages);
+
+        // 커밋 후 썸네일 등 변환본 생성
+        if (!recordImages.isEmpty()) {
+            eventPublisher.publishEvent(new ImagesStoredEvent(ImagesStoredEvent.Target.RECORD,
+                    recordImages.stream().map(RecordImages::getImageId).collect(Collectors.toList())));
+        }
     }
 
     // 비즈니스 리뷰 처리 메서드 (날짜별로 그룹화된 리뷰 반환)
     private Map<LocalDate, List<BusinessReviewResponse>> handleBusinessReviews(TravelPlans plan, Users user) {
-        Map<LocalDate, List<BusinessReviewResponse>> groupedReviews = new HashMap<>();
-        List<TravelPlace> travelPlaces = travelPlaceRepository.findByTravelPlans(plan);
-
-        for (TravelPlace travelPlace : travelPlaces) {
-            Businesses business = travelPlace.getBusinesses();
-            if (business != null) {
-                Optional<BusinessReviews> existingReview = businessReviewsRepository.findByBusinessAndUser(business, user);
-                BusinessReviews businessReview = existingReview.orElse(null);
-
-                if (businessReview != null) {
-                    // 리뷰에 해당하는 이미지들을 조회
-                    List<BusinessReviewImages> reviewImages = businessReviewImagesRepository.findByReview(businessReview);
-
-                    // BusinessReviewResponse 생성
-                    BusinessReviewResponse businessReviewResponse = BusinessReviewResponse.builder()
-                            .id(businessReview.getReviewId())
-                            .businessId(businessReview.getBusiness().getBusiness_id())
-                            .userId(businessReview.getUser().getUsers_id())
-                            .rating(businessReview.getRating())
-                            .businessReview(businessReview.getBusinessReview())
-                            .imageUrls(reviewImages.stream().map(BusinessReviewImages::getImageUrl).collect(Collectors.toList()))
-                            .xAddress(business.getX_address())
-                            .yAddress(business.getY_address())
-                            .build();
-
-                    // 해당 날짜에 리뷰 추가 (여행 날짜를 기준으로 그룹화)
-                    groupedReviews.computeIfAbsent(travelPlace.getDate(), k -> new ArrayList<>()).add(businessReviewResponse);
-                }
-            }
-        }
-        return groupedReviews;
+        return travelRecordAssembler.reviewsByDate(plan.getPlanId(), user.getUsers_id());
     }
 
-    // 여행 기록 수정
-    @Transactional
+    // 여행 기록 수정 (생성과 같이 S3 전송을 먼저 끝냄)
     public TravelRecordResponse update(Long recordId, CreateTravelRecordRequest request, List<MultipartFile> newImages, Long userId) {
+        S3ImageUploadService.StagedImages staged = s3ImageUploadService.stageImages(userId, newImages, request.getImageKeys());
+        try {
+            return transactionTemplate.execute(status -> updateRecord(recordId, request, staged.imageUrls(), userId));
+        } catch (RuntimeException e) {
+            s3ImageUploadService.discard(staged);
+            throw e;
+        }
+    }
+
+    private TravelRecordResponse updateRecord(Long recordId, CreateTravelRecordRequest request, List<String> imageUrls, Long userId) {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
 
@@ -170,7 +157,7 @@ public class TravelRecordsService {
         deleteImagesFromRecord(record);
 
         // 새로운 이미지 저장
-        List<String> imageUrls = saveImages(newImages, record);
+        saveImages(imageUrls, record);
 
         travelRecordsRepository.save(record);
 
@@ -182,6 +169,7 @@ public class TravelRecordsService {
                 record.getRecordTitle(),
                 record.getRecordContent(),
                 imageUrls,
+                imageUrls,  // 썸네일은 커밋 후 생성되므로 원본
                 record.getPublicPrivate(),
                 plan.getPlanId(),
                 plan.getPlan_name(),
@@ -198,10 +186,8 @@ public class TravelRecordsService {
 
     // 기존 이미지 삭제 메서드
     private void deleteImagesFromRecord(TravelRecords record) {
-        // S3에서 이미지 삭제
-        for (RecordImages image : record.getRecordImages()) {
-            deleteImageFromS3(image.getImageUrl());
-        }
+        // S3 객체는 커밋 후 백그라운드에서 삭제
+        deleteImagesFromS3(record.getRecordImages());
 
         // 데이터베이스에서 이미지 삭제
         record.getRecordImages().clear();
@@ -221,28 +207,18 @@ public class TravelRecordsService {
             throw new IllegalArgumentException("You do not have permission to delete this record.");
         }
 
-        // 이미지 삭제
-        for (RecordImages image : record.getRecordImages()) {
-            deleteImageFromS3(image.getImageUrl());
-        }
+        // 이미지 삭제 (S3 객체는 커밋 후 백그라운드에서 삭제)
+        deleteImagesFromS3(record.getRecordImages());
 
         // 여행 기록 삭제
         travelRecordsRepository.delete(record);
     }
 
-    // 이미지 삭제 메서드
-    private void deleteImageFromS3(String imageUrl) {
-        try {
-            String key = extractKeyFromUrl(imageUrl);
-            amazonS3Client.deleteObject(bucket, key);
-        } catch (Exception e) {
-            throw new ImageStorageException("Failed to delete image from S3", e);
-        }
-    }
-
-    // 이미지 URL에서 키 추출
-    private String extractKeyFromUrl(String imageUrl) {
-        return imageUrl.substring(imageUrl.indexOf(bucket) + bucket.length() + 1);
+    // 이미지 삭제 메서드 (원본과 변환본을 삭제 대기열에 기록)
+    private void deleteImagesFromS3(List<RecordImages> images) {
+        imageDeletionService.enqueue(images.stream()
+                .flatMap(image -> image.getStoredUrls().stream())
+                .collect(Collectors.toList()));
     }
 
     // 여행 기록 조회
@@ -255,175 +231,57 @@ public class TravelRecordsService {
             throw new IllegalArgumentException("You do not have permission to view this record.");
         }
 
-        List<String> imageUrls = record.getRecordImages().stream()
-                .map(RecordImages::getImageUrl)
-                .collect(Collectors.toList());
-
-        // 여행 플랜 정보 가져오기
-        TravelPlans plan = record.getPlan();
-
-        Double latitude = plan.getIsland() != null ? plan.getIsland().getLatitude() : null;
-        Double longitude = plan.getIsland() != null ? plan.getIsland().getLongitude() : null;
-
-        return new TravelRecordResponse(
-                record.getRecordId(),
-                record.getRecordTitle(),
-                record.getRecordContent(),
-                imageUrls,
-                record.getPublicPrivate(),
-                plan.getPlanId(),
-                plan.getPlan_name(),
-                plan.getStartDate(),
-                plan.getEndDate(),
-                plan.getIsland() != null ? plan.getIsland().getName() : null,  // getName()으로 수정
-                plan.getStatus(),
-                record.getUser().getUsers_id(),
-                handleBusinessReviews(plan, record.getUser()),
-                plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도 가져오기
-                plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도 가져오기
-        );
+        return travelRecordAssembler.assemble(List.of(record)).get(0);
     }
 
-    // 사용자별 여행 기록 조회
+    // 사용자별 여행 기록 조회 (cursor: 마지막으로 받은 recordId, size가 없으면 전체)
     @Transactional
-    public List<TravelRecordResponse> getRecordsByUser() {
-        Long userId = SecurityUtil.getAuthenticatedUserId();
-        Users user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
-
-        List<TravelRecords> records = travelRecordsRepository.findByUserWithImagesOrderByRecordIdDesc(user);
-
-        return records.stream()
-                .map(record -> {
-                    TravelPlans plan = record.getPlan();
-                    Map<LocalDate, List<BusinessReviewResponse>> businessReviewResponses = handleBusinessReviews(plan, user);
-                    return new TravelRecordResponse(
-                            record.getRecordId(),
-                            record.getRecordTitle(),
-                            record.getRecordContent(),
-                            record.getRecordImages().stream()
-                                    .map(RecordImages::getImageUrl)
-                                    .collect(Collectors.toList()),
-                            record.getPublicPrivate(),
-                            plan.getPlanId(),
-                            plan.getPlan_name(),
-                            plan.getStartDate(),
-                            plan.getEndDate(),
-                            plan.getIsland() != null ? plan.getIsland().getName() : null,  // getName()으로 수정
-                            plan.getStatus(),
-                            record.getUser().getUsers_id(),
-                            businessReviewResponses,
-                            plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도 가져오기
-                            plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도 가져오기
-                    );
-                })
-                .collect(Collectors.toList());
+    public List<TravelRecordResponse> getRecordsByUser(Long cursor, Integer size) {
+        return getRecordsByUser(SecurityUtil.getAuthenticatedUserId(), false, cursor, size);
     }
 
     // 여행 계획별 여행 기록 조회
     @Transactional
-    public List<TravelRecordResponse> getRecordsByPlan(Long planId) {
-        Long userId = SecurityUtil.getAuthenticatedUserId();
-        TravelPlans plan = travelPlansRepository.findById(planId)
-                .orElseThrow(() -> new IllegalArgumentException("Travel plan not found with id: " + planId));
-
-        List<TravelRecords> records = travelRecordsRepository.findByPlanWithImagesOrderByRecordIdDesc(plan);
-
-        return records.stream()
-                .map(record -> {
-                    Map<LocalDate, List<BusinessReviewResponse>> businessReviewResponses = handleBusinessReviews(plan, record.getUser());
-                    return new TravelRecordResponse(
-                            record.getRecordId(),
-                            record.getRecordTitle(),
-                            record.getRecordContent(),
-                            record.getRecordImages().stream()
-                                    .map(RecordImages::getImageUrl)
-                                    .collect(Collectors.toList()),
-                            record.getPublicPrivate(),
-                            plan.getPlanId(),
-                            plan.getPlan_name(),
-                            plan.getStartDate(),
-                            plan.getEndDate(),
-                            plan.getIsland() != null ? plan.getIsland().getName() : null,  // getName()으로 수정
-                            plan.getStatus(),
-                            record.getUser().getUsers_id(),
-                            businessReviewResponses,
-                            plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도 가져오기
-                            plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도 가져오기
-                    );
-                })
-                .collect(Collectors.toList());
+    public List<TravelRecordResponse> getRecordsByPlan(Long planId, Long cursor, Integer size) {
+        return getRecordsByPlan(planId, false, cursor, size);
     }
 
     // 사용자별 공개된 여행 기록 조회
     @Transactional
-    public List<TravelRecordResponse> getRecordsByUserTrue() {
-        Long userId = SecurityUtil.getAuthenticatedUserId();
+    public List<TravelRecordResponse> getRecordsByUserTrue(Long cursor, Integer size) {
+        return getRecordsByUser(SecurityUtil.getAuthenticatedUserId(), true, cursor, size);
+    }
+
+    // 여행 계획별 공개된 여행 기록 조회
+    @Transactional
+    public List<TravelRecordResponse> getRecordsByPlanTrue(Long planId, Long cursor, Integer size) {
+        return getRecordsByPlan(planId, true, cursor, size);
+    }
+
+    // 사용자 여행 기록 한 페이지 (내보내기 스트리밍에서 인증 정보 없이 호출)
+    @Transactional
+    public List<TravelRecordResponse> getRecordsByUser(Long userId, boolean publicOnly, Long cursor, Integer size) {
         Users user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with id: " + userId));
 
-        List<TravelRecords> records = travelRecordsRepository.findByUserAndPublicPrivateOrderByRecordIdDesc(user, true);
-
-        return records.stream()
-                .map(record -> {
-                    TravelPlans plan = record.getPlan();
-                    Map<LocalDate, List<BusinessReviewResponse>> businessReviewResponses = handleBusinessReviews(plan, user);
-                    return new TravelRecordResponse(
-                            record.getRecordId(),
-                            record.getRecordTitle(),
-                            record.getRecordContent(),
-                            record.getRecordImages().stream()
-                                    .map(RecordImages::getImageUrl)
-                                    .collect(Collectors.toList()),
-                            record.getPublicPrivate(),
-                            plan.getPlanId(),
-                            plan.getPlan_name(),
-                            plan.getStartDate(),
-                            plan.getEndDate(),
-                            plan.getIsland() != null ? plan.getIsland().getName() : null,  // getName()으로 수정
-                            plan.getStatus(),
-                            record.getUser().getUsers_id(),
-                            businessReviewResponses,
-                            plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도 가져오기
-                            plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도 가져오기
-                    );
-                })
-                .collect(Collectors.toList());
+        List<Long> recordIds = travelRecordsRepository.findRecordIdsByUser(user, publicOnly, cursor, Paging.pageable(size));
+        return toResponses(recordIds);
     }
 
-    // 여행 계획별 공개된 여행 기록 조회
-    @Transactional
-    public List<TravelRecordResponse> getRecordsByPlanTrue(Long planId) {
-        Long userId = SecurityUtil.getAuthenticatedUserId();
+    private List<TravelRecordResponse> getRecordsByPlan(Long planId, boolean publicOnly, Long cursor, Integer size) {
         TravelPlans plan = travelPlansRepository.findById(planId)
                 .orElseThrow(() -> new IllegalArgumentException("Travel plan not found with id: " + planId));
 
-        List<TravelRecords> records = travelRecordsRepository.findByPlanAndPublicPrivateOrderByRecordIdDesc(plan, true);
-
-        return records.stream()
-                .map(record -> {
-                    Map<LocalDate, List<BusinessReviewResponse>> businessReviewResponses = handleBusinessReviews(plan, record.getUser());
-                    return new TravelRecordResponse(
-                            record.getRecordId(),
-                            record.getRecordTitle(),
-                            record.getRecordContent(),
-                            record.getRecordImages().stream()
-                                    .map(RecordImages::getImageUrl)
-                                    .collect(Collectors.toList()),
-                            record.getPublicPrivate(),
-                            plan.getPlanId(),
-                            plan.getPlan_name(),
-                            plan.getStartDate(),
-                            plan.getEndDate(),
-                            plan.getIsland() != null ? plan.getIsland().getName() : null,  // getName()으로 수정
-                            plan.getStatus(),
-                            record.getUser().getUsers_id(),
-                            businessReviewResponses,
-                            plan.getIsland() != null ? plan.getIsland().getLatitude() : null,  // 위도 가져오기
-                            plan.getIsland() != null ? plan.getIsland().getLongitude() : null  // 경도 가져오기
-                    );
-                })
-                .collect(Collectors.toList());
+        List<Long> recordIds = travelRecordsRepository.findRecordIdsByPlan(plan, publicOnly, cursor, Paging.pageable(size));
+        return toResponses(recordIds);
+    }
+
+    private List<TravelRecordResponse> toResponses(List<Long> recordIds) {
+        if (recordIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<TravelRecords> records = travelRecordsRepository.findWithImagesByRecordIdIn(recordIds);
+        return travelRecordAssembler.assemble(records);
     }
 
 }
@@ -11,49 +11,88 @@ import com.example.SomeOne.dto.Login.Request.UserJoinRequest;
 import com.example.SomeOne.dto.Login.Response.UserJoinResponse;
 import com.example.SomeOne.domain.enums.UserType;
 import com.example.SomeOne.repository.UserRepository;
+import com.example.SomeOne.utils.CacheStats;
+import com.example.SomeOne.utils.CoalescingCache;
+import com.example.SomeOne.utils.ShortLivedStore;
+import com.example.SomeOne.utils.TokenHashes;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class UserService {
 
+    // 인가 코드별 액세스 토큰 캐시 (발급 중인 동안은 PENDING)
+    private static final String ACCESS_TOKEN_KEY_PREFIX = "kakao:access-token:";
+    private static final String PENDING = "";
+    private static final Duration ACCESS_TOKEN_CACHE_TTL = Duration.ofMinutes(10);
+    private static final long PENDING_WAIT_MILLIS = 5000;
+    private static final long PENDING_POLL_MILLIS = 50;
+
+    private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+
     private final List<SocialLoginService> loginServices;
     private final UserRepository userRepository;
     private final RestTemplate restTemplate;
     private final JwtTokenProvider jwtTokenProvider;
-    private final Map<String, String> cachedAccessTokens = new ConcurrentHashMap<>(); // 인가 코드로 액세스 토큰 캐싱
+    private final ShortLivedStore shortLivedStore; // 인가 코드로 액세스 토큰 캐싱
+    private final ObjectMapper objectMapper;
+    // 카카오 액세스 토큰별 사용자 정보 (로그인 한 번에 여러 번 조회하므로 짧게 캐싱, 동시 조회는 한 번으로 합침)
+    private final CoalescingCache<String, SocialUserResponse> kakaoUserInfoCache;
+
+    public UserService(List<SocialLoginService> loginServices,
+                       UserRepository userRepository,
+                       RestTemplate restTemplate,
+                       JwtTokenProvider jwtTokenProvider,
+                       ShortLivedStore shortLivedStore,
+                       ObjectMapper objectMapper,
+                       @Value("${kakao.user-info.cache.max-size:10000}") int userInfoCacheMaxSize,
+                       @Value("${kakao.user-info.cache.ttl-seconds:60}") long userInfoCacheTtlSeconds) {
+        this.loginServices = loginServices;
+        this.userRepository = userRepository;
+        this.restTemplate = restTemplate;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.shortLivedStore = shortLivedStore;
+        this.objectMapper = objectMapper;
+        this.kakaoUserInfoCache = CoalescingCache.withTtl("kakaoUserInfo", userInfoCacheMaxSize,
+                userInfoCacheTtlSeconds * 1000L);
+    }
 
     // 인가 코드로 카카오 액세스 토큰 발급 및 사용자 정보 저장
-    public synchronized String getAccessTokenFromKakao(String code) {
-        // 캐싱된 액세스 토큰이 있는지 확인
-        if (cachedAccessTokens.containsKey(code)) {
+    // 같은 코드로 동시에 들어온 요청만 먼저 온 요청의 결과를 기다리고, 다른 코드의 로그인은 서로 막지 않는다.
+    // 카카오 호출과 대기 중에 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (사용자 저장은 리포지토리 트랜잭션으로)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String getAccessTokenFromKakao(String code) {
+        String key = ACCESS_TOKEN_KEY_PREFIX + code;
+        if (!shortLivedStore.putIfAbsent(key, PENDING, ACCESS_TOKEN_CACHE_TTL)) {
             log.info("Returning cached access token for code: {}", code);
-            return cachedAccessTokens.get(code);  // 이미 캐싱된 액세스 토큰 반환
+            return awaitAccessToken(key);  // 이미 캐싱된 (또는 발급 중인) 액세스 토큰 반환
         }
 
         SocialLoginService loginService = this.getLoginService(UserType.KAKAO);
 
+        boolean cached = false;
         try {
             // 인가 코드를 사용하여 액세스 토큰 발급 (한 번만 사용)
             SocialAuthResponse socialAuthResponse = loginService.getAccessToken(code);
 
             // 액세스 토큰 캐싱
             String accessToken = socialAuthResponse.getAccess_token();
-            cachedAccessTokens.put(code, accessToken);
+            shortLivedStore.put(key, accessToken, ACCESS_TOKEN_CACHE_TTL);
+            cached = true;
             log.info("Cached access token for code: {}", code);
 
             // 사용자 정보 가져오기
@@ -66,6 +105,31 @@ public class UserService {
         } catch (HttpClientErrorException e) {
             log.error("Error getting access token from Kakao", e);
             throw new RuntimeException("Failed to get access token from Kakao", e);
+        } finally {
+            if (!cached) {
+                shortLivedStore.remove(key);  // 발급 실패 시 기다리던 요청도 실패하도록 PENDING 제거
+            }
+        }
+    }
+
+    // 먼저 온 요청이 토큰을 저장할 때까지 대기
+    private String awaitAccessToken(String key) {
+        long deadline = System.currentTimeMillis() + PENDING_WAIT_MILLIS;
+        while (true) {
+            String value = shortLivedStore.get(key)
+                    .orElseThrow(() -> new IllegalStateException("Failed to obtain access token"));
+            if (!PENDING.equals(value)) {
+                return value;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new IllegalStateException("Timed out waiting for access token");
+            }
+            try {
+                Thread.sleep(PENDING_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for access token", e);
+            }
         }
     }
 
@@ -173,6 +237,7 @@ public class UserService {
         try {
             // 카카오 API에 로그아웃 요청을 보냄
             ResponseEntity<String> response = restTemplate.postForEntity(kakaoLogoutUrl, entity, String.class);
+            evictUserInfo(accessToken); // 만료된 토큰의 사용자 정보가 남지 않도록
 
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Kakao user successfully logged out");
@@ -195,11 +260,18 @@ public class UserService {
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
+        // 탈퇴 후에는 카카오 토큰으로 사용자를 찾을 수 없으므로 먼저 조회
+        Long kakaoUserId = getUserInfoFromKakaoAccessToken(accessToken).getKakaoUserId();
+        Optional<Long> userId = userRepository.findByKakaoUserId(String.valueOf(kakaoUserId)).map(Users::getUsers_id);
+
         try {
             // 카카오 API에 회원 탈퇴 요청을 보냄
             ResponseEntity<String> response = restTemplate.postForEntity(kakaoUnlinkUrl, entity, String.class);
+            evictUserInfo(accessToken);
 
             if (response.getStatusCode().is2xxSuccessful()) {
+                // 이미 발급한 JWT는 만료 전이라도 더 이상 인증되지 않도록
+                userId.ifPresent(id -> jwtTokenProvider.revokeUser(String.valueOf(id)));
                 log.info("Kakao account successfully unlinked");
             } else {
                 log.error("Kakao unlink failed, response code: {}, response body: {}", response.getStatusCode(), response.getBody());
@@ -210,58 +282,22 @@ public class UserService {
         }
     }
 
-    // 엑세스 토큰에서 사용자 가져오기
+    // 엑세스 토큰에서 사용자 가져오기 (로그인 중 조회한 사용자 정보를 재사용)
     public Long findUserIdByAccessToken(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBearerAuth(accessToken.trim());
-
-        HttpEntity<String> entity = new HttpEntity<>(headers);
-
-        try {
-            // Kakao API 호출
-            ResponseEntity<String> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, entity, String.class);
+        Long kakaoUserId = getUserInfoFromKakaoAccessToken(accessToken).getKakaoUserId();
+        log.info("Successfully retrieved Kakao user ID: {}", kakaoUserId);
 
-            if (response.getStatusCode().is2xxSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode root = objectMapper.readTree(response.getBody());
-
-                // 사용자 ID 가져오기
-                Long kakaoUserId = root.path("id").asLong();
-                log.info("Successfully retrieved Kakao user ID: {}", kakaoUserId);
-
-                // 사용자 정보를 로컬 DB에서 조회 (findByKakaoUserId 메서드를 사용)
-                return userRepository.findByKakaoUserId(String.valueOf(kakaoUserId))  // 이 부분이 중요한 수정입니다.
-                        .map(Users::getUsers_id)
-                        .orElseThrow(() -> new NoSuchElementException("User not found for Kakao ID: " + kakaoUserId));
-
-            } else {
-                log.error("Kakao API error, status code: {}, response body: {}", response.getStatusCode(), response.getBody());
-                throw new RuntimeException("Kakao API call failed: Non-2xx status code");
-            }
-        } catch (HttpClientErrorException e) {
-            // 카카오 API 호출 오류 처리
-            log.error("Failed to retrieve user info with access token - HTTP error: {}, response body: {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
-            throw new RuntimeException("Kakao API call failed: " + e.getMessage(), e);
-        } catch (JsonProcessingException e) {
-            // JSON 처리 오류 처리
-            log.error("Failed to process the response body as JSON", e);
-            throw new RuntimeException("Failed to process the response body as JSON", e);
-        } catch (Exception e) {
-            // 그 외의 예외 처리
-            log.error("Unexpected error occurred while retrieving user info", e);
-            throw new RuntimeException("Failed to retrieve user info", e);
-        }
+        // 사용자 정보를 로컬 DB에서 조회 (findByKakaoUserId 메서드를 사용)
+        return userRepository.findByKakaoUserId(String.valueOf(kakaoUserId))
+                .map(Users::getUsers_id)
+                .orElseThrow(() -> new NoSuchElementException("User not found for Kakao ID: " + kakaoUserId));
     }
 
     // 리프레시 토큰 갱신 로직
     public LoginResponse refreshToken(String refreshToken) {
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new IllegalArgumentException("Invalid Refresh Token");
-        }
-
-        // 리프레시 토큰에서 사용자 ID 추출
-        String userId = jwtTokenProvider.getUserIdFromToken(refreshToken);
+        // 리프레시 토큰 검증 후 사용자 ID 추출 (탈퇴한 사용자의 토큰은 거부)
+        String userId = jwtTokenProvider.getVerifiedUserId(refreshToken)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid Refresh Token"));
 
         // 사용자 정보 조회
         Users user = userRepository.findById(Long.parseLong(userId))
@@ -320,18 +356,31 @@ public class UserService {
         return userRepository.save(newUser); // 새로운 유저 저장 및 반환
     }
 
+    // 카카오 액세스 토큰으로 사용자 정보 조회 (토큰 해시별로 캐싱, 실패는 캐싱하지 않음)
     public SocialUserResponse getUserInfoFromKakaoAccessToken(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
+        String token = accessToken.trim();
+        return kakaoUserInfoCache.get(TokenHashes.sha256(token), key -> fetchUserInfo(token));
+    }
+
+    // 히트율과 미스 1건당 평균 카카오 API 응답 시간
+    public CacheStats getKakaoUserInfoCacheStats() {
+        return kakaoUserInfoCache.stats();
+    }
+
+    private void evictUserInfo(String accessToken) {
+        kakaoUserInfoCache.invalidate(TokenHashes.sha256(accessToken.trim()));
+    }
+
+    private SocialUserResponse fetchUserInfo(String accessToken) {
         HttpHeaders headers = new HttpHeaders();
         headers.setBearerAuth(accessToken);
 
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(userInfoUrl, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = restTemplate.exchange(KAKAO_USER_INFO_URL, HttpMethod.GET, entity, String.class);
 
             if (response.getStatusCode().is2xxSuccessful()) {
-                ObjectMapper objectMapper = new ObjectMapper();
                 JsonNode root = objectMapper.readTree(response.getBody());
 
                 // 카카오 사용자 정보를 JSON에서 추출
@@ -341,14 +390,15 @@ public class UserService {
 
                 return new SocialUserResponse(kakaoUserId, email, name);
             } else {
-                log.error("Kakao API error: {}", response.getStatusCode());
+                log.error("Kakao API error, status code: {}, response body: {}", response.getStatusCode(), response.getBody());
                 throw new RuntimeException("Failed to retrieve user info from Kakao API");
             }
-        } catch (Exception e) {
-            log.error("Failed to retrieve user info from Kakao API", e);
-            throw new RuntimeException("Failed to retrieve user info from Kakao API", e);
+        } catch (HttpClientErrorException e) {
+            log.error("Failed to retrieve user info with access token - HTTP error: {}, response body: {}", e.getStatusCode(), e.getResponseBodyAsString(), e);
+            throw new RuntimeException("Kakao API call failed: " + e.getMessage(), e);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to process the response body as JSON", e);
+            throw new RuntimeException("Failed to process the response body as JSON", e);
         }
     }
 }
-
-
@@ -0,0 +1,115 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.dao.IslandWeatherRegion;
+import com.example.SomeOne.dao.MidTermForecastDAO;
+import com.example.SomeOne.dao.ShortTermForecastDAO;
+import com.example.SomeOne.dao.WeatherDAO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 지원하는 섬 전체의 날씨를 기상청 발표 직후 미리 받아 DAO 캐시에 적재한다.
+ * 사용자 요청은 캐시만 읽게 되므로 트래픽과 무관하게 외부 API 호출량이 일정하게 유지된다.
+ */
+@Slf4j
+@Component
+public class WeatherPrefetchScheduler {
+
+    private final WeatherDAO weatherDAO;
+    private final ShortTermForecastDAO shortTermForecastDAO;
+    private final MidTermForecastDAO midTermForecastDAO;
+    private final boolean enabled;
+    private final ExecutorService executor;
+
+    public WeatherPrefetchScheduler(WeatherDAO weatherDAO,
+                                    ShortTermForecastDAO shortTermForecastDAO,
+                                    MidTermForecastDAO midTermForecastDAO,
+                                    @Value("${weather.prefetch.enabled:true}") boolean enabled,
+                                    @Value("${weather.prefetch.concurrency:4}") int concurrency) {
+        this.weatherDAO = weatherDAO;
+        this.shortTermForecastDAO = shortTermForecastDAO;
+        this.midTermForecastDAO = midTermForecastDAO;
+        this.enabled = enabled;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "weather-prefetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 기동 직후 한 번 전체 적재 (기동 스레드를 막지 않도록 별도 스레드에서 실행)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(() -> {
+            refreshHourlyForecasts();
+            refreshMidTermForecasts();
+        });
+    }
+
+    // 초단기실황/단기예보: 매 정시 자료가 조회 가능해지는 10분 직후
+    @Scheduled(cron = "0 11 * * * *", zone = "Asia/Seoul")
+    public void refreshHourlyForecasts() {
+        if (!enabled) {
+            return;
+        }
+        List<IslandWeatherRegion> regions = Arrays.asList(IslandWeatherRegion.values());
+        runAll("ultraSrtNcst", regions, region -> weatherDAO.refreshCurrentWeather(region.getNx(), region.getNy()));
+        runAll("vilageFcst", regions, region -> shortTermForecastDAO.refreshShortTermForecast(region.getNx(), region.getNy()));
+    }
+
+    // 중기예보: 06시, 18시 발표 직후
+    @Scheduled(cron = "0 10 6,18 * * *", zone = "Asia/Seoul")
+    public void refreshMidTermForecasts() {
+        if (!enabled) {
+            return;
+        }
+        List<String> regIds = Arrays.stream(IslandWeatherRegion.values())
+                .map(IslandWeatherRegion::getMidTermRegId)
+                .distinct()
+                .toList();
+        runAll("midLandFcst", regIds, midTermForecastDAO::refreshMidTermLandFcst);
+    }
+
+    // 제한된 동시성으로 병렬 실행, 일부 실패는 로그만 남기고 다음 주기에 다시 시도
+    private <T> void runAll(String name, List<T> targets, Consumer<T> task) {
+        long start = System.currentTimeMillis();
+        AtomicInteger failures = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = targets.stream()
+                .map(target -> CompletableFuture.runAsync(() -> {
+                    try {
+                        task.accept(target);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                        log.warn("Weather prefetch failed - {} {}: {}", name, target, e.getMessage());
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+        log.info("Weather prefetch {} done: {} targets, {} failed, {} ms",
+                name, targets.size(), failures.get(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
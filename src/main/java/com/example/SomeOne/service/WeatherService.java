@@ -1,10 +1,13 @@
 package com.example.SomeOne.service;
 
 import com.example.SomeOne.dto.weather.WeatherNowDTO;
+import com.example.SomeOne.utils.CacheStats;
 
 public interface WeatherService {
     WeatherNowDTO getCurrentWeather(Double xCoordinate, Double yCoordinate);
 
     WeatherNowDTO getCurrentWeather(int nx, int ny);
     WeatherNowDTO getWeather(Long islandId);
+
+    CacheStats getCacheStats();
 }
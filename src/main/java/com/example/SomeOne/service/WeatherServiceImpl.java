@@ -2,6 +2,7 @@ package com.example.SomeOne.service;
 
 import com.example.SomeOne.dao.WeatherDAO;
 import com.example.SomeOne.dto.weather.WeatherNowDTO;
+import com.example.SomeOne.utils.CacheStats;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -42,4 +43,9 @@ public class WeatherServiceImpl implements WeatherService {
     public WeatherNowDTO getWeather(Long islandId) {
         return weatherDAO.getWeather(islandId);  // DAO에서 위도와 경도를 사용해 날씨 정보를 가져오도록 변경
     }
+
+    @Override
+    public CacheStats getCacheStats() {
+        return weatherDAO.getCacheStats();
+    }
 }
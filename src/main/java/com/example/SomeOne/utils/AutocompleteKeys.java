@@ -0,0 +1,62 @@
+package com.example.SomeOne.utils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 자동완성 트라이에 넣을 키.
+ * 이름 전체와 각 단어부터 시작하는 부분("우도 해녀식당"의 "해녀식당")을 정규화해 넣고,
+ * 각각의 초성("ㅇㄷㅎㄴㅅㄷ")과 앞부분은 완성된 글자, 나머지는 초성인 혼합 키("우ㄷㅎㄴㅅㄷ", "우도ㅎㄴㅅㄷ")도 넣는다.
+ * 혼합 키는 글자 단위로만 만들므로 "웅"처럼 받침까지 입력 중인 글자는 맞추지 않는다.
+ */
+public final class AutocompleteKeys {
+
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+
+    private AutocompleteKeys() {
+    }
+
+    public static Set<String> of(String name) {
+        Set<String> keys = new LinkedHashSet<>();
+        if (name == null) {
+            return keys;
+        }
+        String[] words = name.trim().split("\\s+");
+        for (int i = 0; i < words.length; i++) {
+            String key = NgramIndex.normalize(String.join("", List.of(words).subList(i, words.length)));
+            if (key.isEmpty()) {
+                continue;
+            }
+            keys.add(key);
+            keys.add(choseong(key));
+            for (int split = 1; split < key.length(); split++) {
+                String rest = key.substring(split);
+                String restChoseong = choseong(rest);
+                if (!restChoseong.equals(rest)) {
+                    keys.add(key.substring(0, split) + restChoseong);
+                }
+            }
+        }
+        return keys;
+    }
+
+    // 완성형 한글은 초성으로, 나머지 문자는 그대로
+    public static String choseong(String text) {
+        StringBuilder builder = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_FIRST && c <= HANGUL_LAST) {
+                builder.append(CHOSEONG[(c - HANGUL_FIRST) / SYLLABLES_PER_CHOSEONG]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.SomeOne.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CacheStats {
+    private String name;
+    private int size;
+    private long hitCount;
+    private long missCount;
+    private long loadFailureCount;
+    private long evictionCount;
+    private double averageLoadMillis; // 미스 1건당 평균 원본 조회 시간
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+}
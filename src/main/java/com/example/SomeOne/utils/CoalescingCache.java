@@ -0,0 +1,290 @@
+package com.example.SomeOne.utils;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 만료 시각이 있는 인메모리 캐시.
+ * 같은 키에 대한 동시 미스는 하나의 로더 호출로 합쳐지고, 나머지 호출은 그 결과를 기다린다.
+ */
+public class CoalescingCache<K, V> {
+
+    // 값이 적재된 시점에 만료 시각(epoch millis)을 계산
+    @FunctionalInterface
+    public interface Expiry<K, V> {
+        long expiresAt(K key, V value, long nowMillis);
+    }
+
+    private final String name;
+    private final int maximumSize;
+    private final Expiry<K, V> expiry;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+
+    // 값과 만료 시각 (스냅샷 저장/복원용)
+    public record ExpiringValue<V>(V value, long expiresAt) {
+    }
+
+    public CoalescingCache(String name, int maximumSize, Expiry<K, V> expiry) {
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.expiry = expiry;
+    }
+
+    public static <K, V> CoalescingCache<K, V> withTtl(String name, int maximumSize, long ttlMillis) {
+        return new CoalescingCache<>(name, maximumSize, (key, value, now) -> now + ttlMillis);
+    }
+
+    // 캐시된 값을 반환하고, 없으면 loader로 한 번만 적재 (null 결과와 예외는 캐싱하지 않음)
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry != null) {
+            hitCount.increment();
+            entry.lastAccess = now;
+            return join(entry);
+        }
+
+        Entry<V> created = new Entry<>(now);
+        Entry<V> existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            // 다른 스레드가 이미 적재 중이면 그 결과를 공유
+            hitCount.increment();
+            return join(existing);
+        }
+
+        missCount.increment();
+        evictIfNecessary();
+        return load(key, created, loader);
+    }
+
+    // get의 비동기 버전. loader는 CompletableFuture를 반환하고, 동시 요청은 같은 결과를 공유한다.
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends CompletableFuture<V>> loader) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.isExpired(now)) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry != null) {
+            hitCount.increment();
+            entry.lastAccess = now;
+            return entry.future.copy();
+        }
+
+        Entry<V> created = new Entry<>(now);
+        Entry<V> existing = entries.putIfAbsent(key, created);
+        if (existing != null) {
+            hitCount.increment();
+            return existing.future.copy();
+        }
+
+        missCount.increment();
+        evictIfNecessary();
+
+        long start = System.nanoTime();
+        CompletableFuture<V> source;
+        try {
+            source = loader.apply(key);
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        source.whenComplete((value, error) -> {
+            totalLoadNanos.add(System.nanoTime() - start);
+            if (error != null) {
+                loadFailureCount.increment();
+                entries.remove(key, created);
+                created.future.completeExceptionally(error);
+                return;
+            }
+            long completedAt = System.currentTimeMillis();
+            long expiresAt = value != null ? expiry.expiresAt(key, value, completedAt) : completedAt;
+            if (expiresAt <= completedAt) {
+                entries.remove(key, created);
+            } else {
+                created.expiresAt = expiresAt;
+            }
+            created.future.complete(value);
+        });
+        return created.future.copy();
+    }
+
+    public V getIfPresent(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null || !entry.future.isDone() || entry.future.isCompletedExceptionally()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        if (entry.isExpired(now)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        hitCount.increment();
+        entry.lastAccess = now;
+        return entry.future.getNow(null);
+    }
+
+    public void put(K key, V value) {
+        if (value == null) {
+            invalidate(key);
+            return;
+        }
+        put(key, value, expiry.expiresAt(key, value, System.currentTimeMillis()));
+    }
+
+    // 만료 시각을 직접 지정해 저장 (이미 지났으면 저장하지 않음)
+    public void put(K key, V value, long expiresAt) {
+        long now = System.currentTimeMillis();
+        if (value == null || expiresAt <= now) {
+            invalidate(key);
+            return;
+        }
+        Entry<V> entry = new Entry<>(now);
+        entry.expiresAt = expiresAt;
+        entry.future.complete(value);
+        entries.put(key, entry);
+        evictIfNecessary();
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    // 만료된 항목 정리
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> {
+            boolean expired = e.getValue().isExpired(now);
+            if (expired) {
+                evictionCount.increment();
+            }
+            return expired;
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 적재가 끝난 유효 항목을 최근 사용 순으로 최대 limit개, 만료 시각과 함께 (스냅샷 저장용)
+    public Map<K, ExpiringValue<V>> hottest(int limit) {
+        long now = System.currentTimeMillis();
+        Map<K, ExpiringValue<V>> result = new LinkedHashMap<>();
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().future.isDone() && !e.getValue().future.isCompletedExceptionally()
+                        && !e.getValue().isExpired(now))
+                .sorted(Comparator.comparingLong((Map.Entry<K, Entry<V>> e) -> e.getValue().lastAccess).reversed())
+                .limit(limit)
+                .forEach(e -> {
+                    V value = e.getValue().future.getNow(null);
+                    if (value != null) {
+                        result.put(e.getKey(), new ExpiringValue<>(value, e.getValue().expiresAt));
+                    }
+                });
+        return result;
+    }
+
+    public CacheStats stats() {
+        long misses = missCount.sum();
+        long loadNanos = totalLoadNanos.sum();
+        return new CacheStats(
+                name,
+                entries.size(),
+                hitCount.sum(),
+                misses,
+                loadFailureCount.sum(),
+                evictionCount.sum(),
+                misses == 0 ? 0.0 : loadNanos / 1_000_000.0 / misses
+        );
+    }
+
+    private V load(K key, Entry<V> created, Function<? super K, ? extends V> loader) {
+        long start = System.nanoTime();
+        try {
+            V value = loader.apply(key);
+            totalLoadNanos.add(System.nanoTime() - start);
+
+            long now = System.currentTimeMillis();
+            long expiresAt = value != null ? expiry.expiresAt(key, value, now) : now;
+            if (expiresAt <= now) {
+                entries.remove(key, created);
+            } else {
+                created.expiresAt = expiresAt;
+            }
+            created.future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            totalLoadNanos.add(System.nanoTime() - start);
+            loadFailureCount.increment();
+            entries.remove(key, created);
+            created.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private V join(Entry<V> entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    // 최대 크기를 넘으면 만료 항목을 먼저 지우고, 그래도 넘으면 오래 사용되지 않은 항목부터 제거
+    private void evictIfNecessary() {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        cleanUp();
+        int overflow = entries.size() - maximumSize * 9 / 10;
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .filter(e -> e.getValue().future.isDone())
+                .sorted(Comparator.comparingLong(e -> e.getValue().lastAccess))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(k -> {
+                    entries.remove(k);
+                    evictionCount.increment();
+                });
+    }
+
+    private static final class Entry<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long expiresAt = Long.MAX_VALUE; // 적재 중에는 만료되지 않음
+        private volatile long lastAccess;
+
+        private Entry(long now) {
+            this.lastAccess = now;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.SomeOne.utils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 업로드 이미지 축소/재압축.
+ * 디코딩할 때부터 필요한 크기에 맞춰 서브샘플링하고, EXIF 회전 값을 픽셀에 적용한 뒤
+ * 메타데이터 없는 JPEG로 다시 인코딩한다.
+ */
+public final class ImageResizer {
+
+    private static final int EXIF_ORIENTATION_TAG = 0x0112;
+
+    private ImageResizer() {
+    }
+
+    // 긴 변이 maxSide 이상이 되도록만 줄여서 디코딩하고 EXIF 방향대로 회전 (지원하지 않는 형식이면 IOException)
+    public static BufferedImage read(byte[] data, int maxSide) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(data))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int longSide = Math.max(reader.getWidth(0), reader.getHeight(0));
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, longSide / maxSide);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage image = reader.read(0, param);
+                return orient(toRgb(image), readOrientation(data));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 긴 변을 maxSide 이하로 축소 (이미 작으면 그대로), 절반씩 여러 번 줄여 계단 현상을 줄인다
+    public static BufferedImage resize(BufferedImage image, int maxSide) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int longSide = Math.max(width, height);
+        if (longSide <= maxSide) {
+            return image;
+        }
+        int targetWidth = Math.max(1, (int) Math.round((double) width * maxSide / longSide));
+        int targetHeight = Math.max(1, (int) Math.round((double) height * maxSide / longSide));
+
+        BufferedImage current = image;
+        while (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            int nextWidth = Math.max(targetWidth, current.getWidth() / 2);
+            int nextHeight = Math.max(targetHeight, current.getHeight() / 2);
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, nextWidth, nextHeight, null);
+            graphics.dispose();
+            current = next;
+        }
+        return current;
+    }
+
+    // 메타데이터 없이 progressive JPEG로 인코딩
+    public static byte[] toJpeg(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(output)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    // 투명 영역은 흰색으로 채운 RGB 이미지 (JPEG는 알파를 지원하지 않음)
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    // EXIF Orientation(1~8)에 맞게 회전/반전
+    private static BufferedImage orient(BufferedImage image, int orientation) {
+        int w = image.getWidth();
+        int h = image.getHeight();
+        AffineTransform transform;
+        switch (orientation) {
+            case 2:
+                transform = new AffineTransform(-1, 0, 0, 1, w, 0);
+                break;
+            case 3:
+                transform = new AffineTransform(-1, 0, 0, -1, w, h);
+                break;
+            case 4:
+                transform = new AffineTransform(1, 0, 0, -1, 0, h);
+                break;
+            case 5:
+                transform = new AffineTransform(0, 1, 1, 0, 0, 0);
+                break;
+            case 6:
+                transform = new AffineTransform(0, 1, -1, 0, h, 0);
+                break;
+            case 7:
+                transform = new AffineTransform(0, -1, -1, 0, h, w);
+                break;
+            case 8:
+                transform = new AffineTransform(0, -1, 1, 0, 0, w);
+                break;
+            default:
+                return image;
+        }
+        boolean swap = orientation >= 5;
+        BufferedImage oriented = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        graphics.drawImage(image, transform, null);
+        graphics.dispose();
+        return oriented;
+    }
+
+    // JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation 값을 찾음 (없거나 JPEG가 아니면 1)
+    static int readOrientation(byte[] data) {
+        if (data.length < 4 || (data[0] & 0xFF) != 0xFF || (data[1] & 0xFF) != 0xD8) {
+            return 1;
+        }
+        int pos = 2;
+        while (pos + 4 <= data.length) {
+            if ((data[pos] & 0xFF) != 0xFF) {
+                return 1;
+            }
+            int marker = data[pos + 1] & 0xFF;
+            if (marker == 0xDA || marker == 0xD9) {
+                return 1; // 이미지 데이터 시작, EXIF 없음
+            }
+            int length = readShort(data, pos + 2, false);
+            int segmentEnd = pos + 2 + length;
+            if (marker == 0xE1 && length >= 8 && segmentEnd <= data.length
+                    && data[pos + 4] == 'E' && data[pos + 5] == 'x' && data[pos + 6] == 'i'
+                    && data[pos + 7] == 'f' && data[pos + 8] == 0 && data[pos + 9] == 0) {
+                return readTiffOrientation(data, pos + 10, segmentEnd);
+            }
+            pos = segmentEnd;
+        }
+        return 1;
+    }
+
+    private static int readTiffOrientation(byte[] data, int start, int end) {
+        if (start + 8 > end) {
+            return 1;
+        }
+        boolean littleEndian = data[start] == 'I' && data[start + 1] == 'I';
+        if (!littleEndian && !(data[start] == 'M' && data[start + 1] == 'M')) {
+            return 1; // 바이트 순서 표시가 잘못된 TIFF 헤더
+        }
+        long ifdOffset = readInt(data, start + 4, littleEndian) & 0xFFFFFFFFL;
+        if (start + ifdOffset + 2 > end) {
+            return 1;
+        }
+        int ifd = (int) (start + ifdOffset);
+        int count = readShort(data, ifd, littleEndian);
+        if (ifd + 2 + count * 12 > end) {
+            return 1; // 항목 수가 세그먼트를 넘는 손상된 IFD
+        }
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (readShort(data, entry, littleEndian) == EXIF_ORIENTATION_TAG) {
+                int orientation = readShort(data, entry + 8, littleEndian);
+                return orientation >= 1 && orientation <= 8 ? orientation : 1;
+            }
+        }
+        return 1;
+    }
+
+    private static int readShort(byte[] data, int pos, boolean littleEndian) {
+        int b0 = data[pos] & 0xFF;
+        int b1 = data[pos + 1] & 0xFF;
+        return littleEndian ? (b1 << 8) | b0 : (b0 << 8) | b1;
+    }
+
+    private static int readInt(byte[] data, int pos, boolean littleEndian) {
+        int high = readShort(data, littleEndian ? pos + 2 : pos, littleEndian);
+        int low = readShort(data, littleEndian ? pos : pos + 2, littleEndian);
+        return (high << 16) | low;
+    }
+}
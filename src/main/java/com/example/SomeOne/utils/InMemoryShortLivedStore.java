@@ -0,0 +1,87 @@
+package com.example.SomeOne.utils;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 ShortLivedStore.
+ * 키별 원자 연산은 ConcurrentHashMap.compute로 처리하므로 전역 잠금이 없고,
+ * 최대 크기를 넘으면 만료된 항목부터, 그래도 넘으면 가장 먼저 만료될 항목부터 지운다.
+ */
+public class InMemoryShortLivedStore implements ShortLivedStore {
+
+    private final int maximumSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public InMemoryShortLivedStore(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    private record Entry(String value, long expiresAt) {
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry created = new Entry(value, now + ttl.toMillis());
+        Entry result = entries.compute(key, (k, existing) ->
+                existing == null || existing.isExpired(now) ? created : existing);
+        if (result == created) {
+            evictIfNecessary();
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        entries.put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+        evictIfNecessary();
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.value());
+    }
+
+    @Override
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNecessary() {
+        if (entries.size() <= maximumSize) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+        int overflow = entries.size() - maximumSize * 9 / 10;
+        if (overflow <= 0) {
+            return;
+        }
+        entries.entrySet().stream()
+                .sorted(Comparator.comparingLong(e -> e.getValue().expiresAt()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(entries::remove);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.SomeOne.utils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 기상청 초단기실황 발표 기준 시각 계산.
+ * 매 정시 자료는 10분 이후부터 조회 가능하므로, 10분 이전에는 직전 정시 자료를 사용한다.
+ */
+public final class KmaBaseTime {
+
+    public static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    public static final int PUBLISH_DELAY_MINUTES = 10;
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH00");
+
+    private final LocalDateTime base;
+
+    private KmaBaseTime(LocalDateTime base) {
+        this.base = base;
+    }
+
+    public static KmaBaseTime now() {
+        return of(LocalDateTime.now(KST));
+    }
+
+    public static KmaBaseTime of(LocalDateTime now) {
+        // 자정 직후(00:00~00:09)에도 전날 23시로 날짜까지 함께 넘어가도록 시각 전체를 이동
+        return new KmaBaseTime(now.minusMinutes(PUBLISH_DELAY_MINUTES).truncatedTo(ChronoUnit.HOURS));
+    }
+
+    public String getBaseDate() {
+        return base.format(DATE_FORMAT);
+    }
+
+    public String getBaseTime() {
+        return base.format(TIME_FORMAT);
+    }
+
+    // 다음 정시 자료가 조회 가능해지는 시각 (이 기준 시각 자료의 만료 시점)
+    public LocalDateTime getNextPublishAt() {
+        return base.plusHours(1).plusMinutes(PUBLISH_DELAY_MINUTES);
+    }
+
+    public long getNextPublishEpochMillis() {
+        return getNextPublishAt().atZone(KST).toInstant().toEpochMilli();
+    }
+}
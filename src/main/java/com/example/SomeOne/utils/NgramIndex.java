@@ -0,0 +1,210 @@
+package com.example.SomeOne.utils;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 문자 n-gram(2글자, 검색어가 한 글자면 1글자) 역색인.
+ * 공백/기호를 제거하고 소문자로 바꾼 필드 값을 색인해 두고, 검색어의 n-gram 목록을 교집합해 후보를 찾은 뒤
+ * 실제 부분 일치 여부와 필드별 가중치(완전 일치 > 접두 일치 > 포함)로 점수를 매긴다.
+ * 만든 뒤에는 변경하지 않으므로 여러 스레드에서 동시에 조회해도 된다.
+ */
+public final class NgramIndex<T> {
+
+    private static final double EXACT_MATCH_BOOST = 3.0;
+    private static final double PREFIX_MATCH_BOOST = 2.0;
+
+    public record Field<T>(Function<T, String> extractor, double weight) {
+    }
+
+    private final List<T> documents;
+    private final String[][] values;  // [문서][필드] 정규화된 값
+    private final double[] weights;
+    private final Map<String, int[]> postings;
+
+    private NgramIndex(List<T> documents, String[][] values, double[] weights, Map<String, int[]> postings) {
+        this.documents = documents;
+        this.values = values;
+        this.weights = weights;
+        this.postings = postings;
+    }
+
+    public static <T> NgramIndex<T> build(List<T> documents, List<Field<T>> fields) {
+        List<T> docs = List.copyOf(documents);
+        String[][] values = new String[docs.size()][fields.size()];
+        double[] weights = new double[fields.size()];
+        for (int f = 0; f < fields.size(); f++) {
+            weights[f] = fields.get(f).weight();
+        }
+
+        Map<String, List<Integer>> builder = new HashMap<>();
+        for (int doc = 0; doc < docs.size(); doc++) {
+            for (int f = 0; f < fields.size(); f++) {
+                String value = normalize(fields.get(f).extractor().apply(docs.get(doc)));
+                values[doc][f] = value;
+                for (int i = 0; i < value.length(); i++) {
+                    addPosting(builder, value.substring(i, i + 1), doc);
+                    if (i + 2 <= value.length()) {
+                        addPosting(builder, value.substring(i, i + 2), doc);
+                    }
+                }
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(builder.size() * 2);
+        builder.forEach((gram, docIds) -> postings.put(gram, docIds.stream().mapToInt(Integer::intValue).toArray()));
+        return new NgramIndex<>(docs, values, weights, postings);
+    }
+
+    public static <T> NgramIndex<T> empty() {
+        return new NgramIndex<>(List.of(), new String[0][0], new double[0], Map.of());
+    }
+
+    // 공백으로 나뉜 검색어가 모두 포함된 문서를 점수 순으로 offset부터 limit개
+    public List<T> search(String query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("offset must not be negative");
+        }
+        String[] terms = terms(query);
+        if (terms.length == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        int[] candidates = null;
+        for (String term : terms) {
+            int[] matched = candidates(term);
+            candidates = candidates == null ? matched : intersect(candidates, matched);
+            if (candidates.length == 0) {
+                return List.of();
+            }
+        }
+
+        List<Hit> hits = new ArrayList<>();
+        for (int doc : candidates) {
+            double score = score(doc, terms);
+            if (score > 0) {
+                hits.add(new Hit(doc, score));
+            }
+        }
+        // 점수가 같으면 첫 번째 필드(이름)가 짧은 순, 그다음 색인 순서
+        hits.sort(Comparator.comparingDouble(Hit::score).reversed()
+                .thenComparingInt(hit -> values[hit.doc()].length > 0 ? values[hit.doc()][0].length() : 0)
+                .thenComparingInt(Hit::doc));
+
+        List<T> result = new ArrayList<>(Math.min(limit, Math.max(0, hits.size() - offset)));
+        for (int i = offset; i < hits.size() && result.size() < limit; i++) {
+            result.add(documents.get(hits.get(i).doc()));
+        }
+        return result;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder builder = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private record Hit(int doc, double score) {
+    }
+
+    private String[] terms(String query) {
+        if (query == null) {
+            return new String[0];
+        }
+        return Arrays.stream(query.trim().split("\\s+"))
+                .map(NgramIndex::normalize)
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+
+    // 검색어의 모든 n-gram을 가진 문서 (연속 여부는 score에서 다시 확인)
+    private int[] candidates(String term) {
+        if (term.length() == 1) {
+            return postings.getOrDefault(term, new int[0]);
+        }
+        int[] result = null;
+        for (int i = 0; i + 2 <= term.length(); i++) {
+            int[] docs = postings.get(term.substring(i, i + 2));
+            if (docs == null) {
+                return new int[0];
+            }
+            result = result == null ? docs : intersect(result, docs);
+            if (result.length == 0) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    // 검색어마다 가장 잘 맞는 필드 점수의 합. 하나라도 어느 필드에도 없으면 0
+    private double score(int doc, String[] terms) {
+        double total = 0;
+        for (String term : terms) {
+            double best = 0;
+            for (int f = 0; f < weights.length; f++) {
+                String value = values[doc][f];
+                double boost;
+                if (value.equals(term)) {
+                    boost = EXACT_MATCH_BOOST;
+                } else if (value.startsWith(term)) {
+                    boost = PREFIX_MATCH_BOOST;
+                } else if (value.contains(term)) {
+                    boost = 1.0;
+                } else {
+                    continue;
+                }
+                best = Math.max(best, boost * weights[f]);
+            }
+            if (best == 0) {
+                return 0;
+            }
+            total += best;
+        }
+        return total;
+    }
+
+    private static void addPosting(Map<String, List<Integer>> postings, String gram, int doc) {
+        List<Integer> docs = postings.computeIfAbsent(gram, k -> new ArrayList<>());
+        if (docs.isEmpty() || docs.get(docs.size() - 1) != doc) {
+            docs.add(doc);
+        }
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return n == result.length ? result : Arrays.copyOf(result, n);
+    }
+}
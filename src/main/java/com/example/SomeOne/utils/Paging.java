@@ -0,0 +1,45 @@
+package com.example.SomeOne.utils;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * 목록 조회의 page/size 검증.
+ * 음수 page, 범위를 벗어난 size는 IllegalArgumentException(400)으로 거절하고, offset은 int 범위 안에서 계산한다.
+ */
+public final class Paging {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private Paging() {
+    }
+
+    // 건너뛸 개수와 가져올 개수
+    public record Window(int offset, int limit) {
+    }
+
+    // page/size를 offset/limit으로 변환 (size가 없으면 전체)
+    public static Window window(int page, Integer size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size == null) {
+            return new Window(0, Integer.MAX_VALUE);
+        }
+        int limit = requireSize(size);
+        return new Window((int) Math.min((long) page * limit, Integer.MAX_VALUE), limit);
+    }
+
+    // 커서 기반 조회의 첫 페이지 (size가 없으면 전체)
+    public static Pageable pageable(Integer size) {
+        return size != null ? PageRequest.of(0, requireSize(size)) : Pageable.unpaged();
+    }
+
+    // 1 ~ MAX_PAGE_SIZE
+    public static int requireSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+}
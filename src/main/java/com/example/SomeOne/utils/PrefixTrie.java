@@ -0,0 +1,126 @@
+package com.example.SomeOne.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자동완성용 접두어 트라이.
+ * 노드마다 그 아래에 있는 값 중 가중치 상위 N개를 미리 계산해 두므로, 조회는 접두어 길이만큼 내려가기만 하면 된다.
+ * 같은 값을 여러 키(이름, 단어 시작 위치, 초성 등)로 넣어도 결과에는 한 번만 나온다. 가중치가 같으면 먼저 넣은 값이 앞선다.
+ * 만든 뒤에는 변경하지 않으므로 여러 스레드에서 동시에 조회해도 된다.
+ */
+public final class PrefixTrie<T> {
+
+    private final Node root;
+    private final List<T> values;  // 가중치 순위 순
+
+    private PrefixTrie(Node root, List<T> values) {
+        this.root = root;
+        this.values = values;
+    }
+
+    public static <T> Builder<T> builder(int maxSuggestions) {
+        return new Builder<>(maxSuggestions);
+    }
+
+    public static <T> PrefixTrie<T> empty() {
+        return new PrefixTrie<>(new Node(), List.of());
+    }
+
+    // 접두어로 시작하는 키를 가진 값, 가중치 순 최대 limit개 (limit은 maxSuggestions 이하)
+    public List<T> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        int count = Math.min(limit, node.top.length);
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(values.get(node.top[i]));
+        }
+        return result;
+    }
+
+    public int size() {
+        return values.size();
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private int[] own = new int[0];   // 이 노드에서 끝나는 키의 값 순위
+        private int[] top = new int[0];   // 하위 전체에서 순위 상위 N개
+    }
+
+    public static final class Builder<T> {
+        private final int maxSuggestions;
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private final Map<T, Double> weights = new LinkedHashMap<>(); // 넣은 순서 (같은 가중치의 순위)
+
+        private Builder(int maxSuggestions) {
+            this.maxSuggestions = maxSuggestions;
+        }
+
+        private record Entry<T>(String key, T value) {
+        }
+
+        public Builder<T> add(String key, T value, double weight) {
+            if (key != null && !key.isEmpty()) {
+                entries.add(new Entry<>(key, value));
+                weights.merge(value, weight, Math::max);
+            }
+            return this;
+        }
+
+        public PrefixTrie<T> build() {
+            // 가중치 내림차순으로 순위를 매기고, 트라이에는 순위(int)만 저장
+            List<T> ranked = new ArrayList<>(weights.keySet());
+            ranked.sort(Comparator.comparingDouble((T value) -> weights.get(value)).reversed());
+            Map<T, Integer> rankByValue = new HashMap<>(ranked.size() * 2);
+            for (int i = 0; i < ranked.size(); i++) {
+                rankByValue.put(ranked.get(i), i);
+            }
+
+            Node root = new Node();
+            for (Entry<T> entry : entries) {
+                Node node = root;
+                for (int i = 0; i < entry.key().length(); i++) {
+                    node = node.children.computeIfAbsent(entry.key().charAt(i), c -> new Node());
+                }
+                node.own = append(node.own, rankByValue.get(entry.value()));
+            }
+            computeTop(root);
+            return new PrefixTrie<>(root, List.copyOf(ranked));
+        }
+
+        private int[] computeTop(Node node) {
+            int[] merged = node.own;
+            for (Node child : node.children.values()) {
+                int[] childTop = computeTop(child);
+                int[] combined = Arrays.copyOf(merged, merged.length + childTop.length);
+                System.arraycopy(childTop, 0, combined, merged.length, childTop.length);
+                merged = combined;
+            }
+            node.top = Arrays.stream(merged).sorted().distinct().limit(maxSuggestions).toArray();
+            node.own = null;
+            return node.top;
+        }
+
+        private static int[] append(int[] array, int value) {
+            int[] result = Arrays.copyOf(array, array.length + 1);
+            result[array.length] = value;
+            return result;
+        }
+    }
+}
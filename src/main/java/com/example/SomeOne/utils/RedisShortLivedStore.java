@@ -0,0 +1,41 @@
+package com.example.SomeOne.utils;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis 기반 ShortLivedStore (여러 인스턴스가 공유).
+ * 만료는 Redis TTL에 맡기고, putIfAbsent는 SET NX PX 한 번으로 처리한다.
+ */
+public class RedisShortLivedStore implements ShortLivedStore {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+
+    public RedisShortLivedStore(StringRedisTemplate redisTemplate, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public boolean putIfAbsent(String key, String value, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(keyPrefix + key, value, ttl));
+    }
+
+    @Override
+    public void put(String key, String value, Duration ttl) {
+        redisTemplate.opsForValue().set(keyPrefix + key, value, ttl);
+    }
+
+    @Override
+    public Optional<String> get(String key) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(keyPrefix + key));
+    }
+
+    @Override
+    public void remove(String key) {
+        redisTemplate.delete(keyPrefix + key);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.SomeOne.utils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 만료 시간이 있는 문자열 키-값 저장소.
+ * 모든 연산은 키 단위로 원자적이며, 구현은 프로세스 내 메모리(InMemoryShortLivedStore)와
+ * Redis(RedisShortLivedStore)가 있다. 여러 인스턴스가 상태를 공유해야 하면 Redis를 사용한다.
+ */
+public interface ShortLivedStore {
+
+    // 키가 없거나 만료됐을 때만 저장하고 true 반환 (Redis SET NX PX)
+    boolean putIfAbsent(String key, String value, Duration ttl);
+
+    void put(String key, String value, Duration ttl);
+
+    Optional<String> get(String key);
+
+    void remove(String key);
+}
@@ -0,0 +1,152 @@
+package com.example.SomeOne.dao;
+
+import com.example.SomeOne.dto.weather.MidTermForecastDTO;
+import com.example.SomeOne.dto.weather.ShortTermForecastDTO;
+import com.example.SomeOne.dto.weather.WeatherNowDTO;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KmaResponseParserTest {
+
+    @Test
+    void parsesUltraSrtNcstJson() {
+        WeatherNowDTO dto = KmaResponseParser.parseUltraSrtNcst(fixture("ultra-srt-ncst.json"));
+
+        assertEquals("00", dto.getResultCode());
+        assertEquals("20241017", dto.getBaseDate());
+        assertEquals("1400", dto.getBaseTime());
+        assertEquals(21.3, dto.getTemperature());
+        assertEquals(0.5, dto.getRainfall());
+        assertEquals(71.0, dto.getHumidity());
+    }
+
+    @Test
+    void parsesUltraSrtNcstXml() {
+        WeatherNowDTO dto = KmaResponseParser.parseUltraSrtNcst(fixture("ultra-srt-ncst.xml"));
+
+        assertEquals("00", dto.getResultCode());
+        assertEquals("NORMAL_SERVICE", dto.getResultMsg());
+        assertEquals(21.3, dto.getTemperature());
+        assertEquals(0.5, dto.getRainfall());
+        assertEquals(71.0, dto.getHumidity());
+    }
+
+    @Test
+    void ultraSrtNcstKeepsErrorCodeFromServiceError() {
+        WeatherNowDTO dto = KmaResponseParser.parseUltraSrtNcst(fixture("service-error.xml"));
+
+        assertEquals("30", dto.getResultCode());
+        assertEquals("SERVICE_KEY_IS_NOT_REGISTERED_ERROR", dto.getResultMsg());
+        assertNull(dto.getBaseDate());
+    }
+
+    @Test
+    void vilageFcstUsesNearestForecastTime() {
+        ShortTermForecastDTO dto = KmaResponseParser.parseVilageFcst(fixture("vilage-fcst.json"));
+
+        assertEquals("00", dto.getResultCode());
+        assertEquals("20241017", dto.getBaseDate());
+        assertEquals(22.0, dto.getTemperature()); // 16시 예보(19)가 아닌 15시 값
+        assertEquals(30.0, dto.getRainfall());
+        assertEquals(65.0, dto.getHumidity());
+        assertEquals("구름 많음", dto.getWeatherCondition());
+    }
+
+    @Test
+    void vilageFcstKeepsNoDataCode() {
+        ShortTermForecastDTO dto = KmaResponseParser.parseVilageFcst(fixture("no-data.json"));
+
+        assertEquals("03", dto.getResultCode());
+        assertEquals("NO_DATA", dto.getResultMsg());
+        assertNull(dto.getWeatherCondition());
+    }
+
+    @Test
+    void parsesMidLandFcstJson() {
+        assertMidLandForecast(KmaResponseParser.parseMidLandFcst(fixture("mid-land-fcst.json")));
+    }
+
+    @Test
+    void parsesMidLandFcstXml() {
+        assertMidLandForecast(KmaResponseParser.parseMidLandFcst(fixture("mid-land-fcst.xml")));
+    }
+
+    @Test
+    void midLandFcstReturnsNullOnServiceError() {
+        assertNull(KmaResponseParser.parseMidLandFcst(fixture("service-error.xml")));
+    }
+
+    @Test
+    void midLandFcstReturnsEmptyForecastOnNoData() {
+        MidTermForecastDTO dto = KmaResponseParser.parseMidLandFcst(fixture("no-data.json"));
+
+        assertNotNull(dto);
+        assertTrue(dto.getForecasts().isEmpty());
+    }
+
+    @Test
+    void midLandFcstReturnsEmptyForecastOnEmptyBody() {
+        MidTermForecastDTO dto = KmaResponseParser.parseMidLandFcst(body("  \n"));
+
+        assertNotNull(dto);
+        assertTrue(dto.getForecasts().isEmpty());
+    }
+
+    @Test
+    void midLandFcstReturnsEmptyForecastWithoutWeatherFields() {
+        MidTermForecastDTO dto = KmaResponseParser.parseMidLandFcst(
+                body("{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"items\":{\"item\":[{\"rnSt3Am\":10}]}}}}"));
+
+        assertNotNull(dto);
+        assertTrue(dto.getForecasts().isEmpty());
+    }
+
+    @Test
+    void truncatedJsonKeepsValuesReadSoFar() {
+        WeatherNowDTO dto = KmaResponseParser.parseUltraSrtNcst(body(
+                "{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"items\":{\"item\":["
+                        + "{\"baseDate\":\"20241017\",\"category\":\"T1H\",\"obsrValue\":\"21.3\"},{\"category\":\"RE"));
+
+        assertEquals("00", dto.getResultCode());
+        assertEquals(21.3, dto.getTemperature());
+    }
+
+    private static void assertMidLandForecast(MidTermForecastDTO dto) {
+        assertNotNull(dto);
+        List<MidTermForecastDTO.DayForecast> forecasts = dto.getForecasts();
+        assertEquals(5, forecasts.size());
+
+        MidTermForecastDTO.DayForecast day3 = forecasts.get(0);
+        assertEquals(3, day3.getDay());
+        assertEquals("맑음", day3.getMorningWeather());
+        assertEquals("구름많음", day3.getEveningWeather());
+        assertEquals(50, day3.getRainfall());
+        assertEquals("맑음 / 구름많음", day3.getWeatherCondition());
+
+        MidTermForecastDTO.DayForecast day5 = forecasts.get(2);
+        assertEquals(5, day5.getDay());
+        assertEquals("흐리고 비", day5.getWeatherCondition());
+        assertEquals(130, day5.getRainfall());
+
+        assertEquals(7, forecasts.get(4).getDay());
+    }
+
+    private static InputStream fixture(String name) {
+        InputStream in = KmaResponseParserTest.class.getResourceAsStream("/kma/" + name);
+        assertNotNull(in, "missing fixture " + name);
+        return in;
+    }
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.SomeOne.service;
+
+import com.example.SomeOne.domain.Users;
+import com.example.SomeOne.domain.enums.UserType;
+import com.example.SomeOne.dto.Login.Response.SocialAuthResponse;
+import com.example.SomeOne.dto.Login.Response.SocialUserResponse;
+import com.example.SomeOne.repository.UserRepository;
+import com.example.SomeOne.utils.InMemoryShortLivedStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final FakeKakaoLoginService loginService = new FakeKakaoLoginService();
+    private final PollCountingStore store = new PollCountingStore();
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByKakaoUserId("42"))
+                .thenReturn(Optional.of(Users.builder().kakaoUserId("42").userType(UserType.KAKAO).build()));
+
+        RestTemplate restTemplate = mock(RestTemplate.class);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class), eq(String.class)))
+                .thenReturn(ResponseEntity.ok("{\"id\":42,\"properties\":{\"nickname\":\"tester\"}}"));
+
+        userService = new UserService(List.of(loginService), userRepository, restTemplate, null, store,
+                new ObjectMapper(), 100, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        loginService.release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsForSameCodeShareOneExchange() throws Exception {
+        loginService.blockedCodes.add("code");
+        Future<String> first = executor.submit(() -> userService.getAccessTokenFromKakao("code"));
+        assertTrue(loginService.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        // 두 번째 요청은 PENDING을 보고 기다리는 중
+        Future<String> second = executor.submit(() -> userService.getAccessTokenFromKakao("code"));
+        assertTrue(store.polled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertFalse(second.isDone());
+
+        loginService.release.countDown();
+
+        assertEquals("token-code", first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("token-code", second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, loginService.exchanges.get());
+    }
+
+    @Test
+    void cachedTokenIsReturnedWithoutAnotherExchange() {
+        assertEquals("token-code", userService.getAccessTokenFromKakao("code"));
+        assertEquals("token-code", userService.getAccessTokenFromKakao("code"));
+        assertEquals(1, loginService.exchanges.get());
+    }
+
+    @Test
+    void differentCodesDoNotWaitForEachOther() throws Exception {
+        loginService.blockedCodes.add("slow");
+        Future<String> slow = executor.submit(() -> userService.getAccessTokenFromKakao("slow"));
+        assertTrue(loginService.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals("token-fast", userService.getAccessTokenFromKakao("fast"));
+        assertFalse(slow.isDone());
+
+        loginService.release.countDown();
+        assertEquals("token-slow", slow.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedExchangeFailsWaitersAndAllowsRetry() throws Exception {
+        loginService.blockedCodes.add("code");
+        loginService.failingCodes.add("code");
+        Future<String> first = executor.submit(() -> userService.getAccessTokenFromKakao("code"));
+        assertTrue(loginService.entered.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Future<String> second = executor.submit(() -> userService.getAccessTokenFromKakao("code"));
+        assertTrue(store.polled.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        loginService.release.countDown();
+
+        ExecutionException ownerFailure = assertThrows(ExecutionException.class,
+                () -> first.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(HttpClientErrorException.class, ownerFailure.getCause().getCause());
+        ExecutionException waiterFailure = assertThrows(ExecutionException.class,
+                () -> second.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, waiterFailure.getCause());
+
+        // PENDING이 지워져 같은 코드로 다시 시도할 수 있음
+        loginService.failingCodes.clear();
+        assertEquals("token-code", userService.getAccessTokenFromKakao("code"));
+        assertEquals(2, loginService.exchanges.get());
+    }
+
+    // 지정한 코드는 release 전까지 교환을 멈추고, 실패하도록 지정한 코드는 400을 던지는 카카오 로그인
+    private static class FakeKakaoLoginService implements SocialLoginService {
+
+        private final Set<String> blockedCodes = ConcurrentHashMap.newKeySet();
+        private final Set<String> failingCodes = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger exchanges = new AtomicInteger();
+
+        @Override
+        public UserType getServiceName() {
+            return UserType.KAKAO;
+        }
+
+        @Override
+        public SocialAuthResponse getAccessToken(String authorizationCode) {
+            exchanges.incrementAndGet();
+            if (blockedCodes.contains(authorizationCode)) {
+                entered.countDown();
+                try {
+                    release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            if (failingCodes.contains(authorizationCode)) {
+                throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+            }
+            return SocialAuthResponse.builder().access_token("token-" + authorizationCode).build();
+        }
+
+        @Override
+        public SocialUserResponse getUserInfo(String accessToken) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    // 대기 중인 요청이 PENDING 값을 읽었는지 알 수 있는 저장소
+    private static class PollCountingStore extends InMemoryShortLivedStore {
+
+        private final CountDownLatch polled = new CountDownLatch(1);
+
+        PollCountingStore() {
+            super(100);
+        }
+
+        @Override
+        public Optional<String> get(String key) {
+            Optional<String> value = super.get(key);
+            if (value.filter(String::isEmpty).isPresent()) {
+                polled.countDown();
+            }
+            return value;
+        }
+    }
+}
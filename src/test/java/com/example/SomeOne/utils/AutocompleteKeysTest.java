@@ -0,0 +1,74 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AutocompleteKeysTest {
+
+    private static PrefixTrie<String> trie(String... names) {
+        PrefixTrie.Builder<String> builder = PrefixTrie.builder(10);
+        for (String name : names) {
+            for (String key : AutocompleteKeys.of(name)) {
+                builder.add(key, name, 0);
+            }
+        }
+        return builder.build();
+    }
+
+    private static List<String> suggest(PrefixTrie<String> trie, String keyword) {
+        return trie.suggest(NgramIndex.normalize(keyword), 10);
+    }
+
+    @Test
+    void convertsSyllablesToChoseongAndKeepsOtherCharacters() {
+        assertEquals("ㅇㄷㅎㄴㅅㄷ", AutocompleteKeys.choseong("우도해녀식당"));
+        assertEquals("cuㅈㅈ1ㅎ", AutocompleteKeys.choseong("cu제주1호"));
+        assertEquals("ㄲㄸ", AutocompleteKeys.choseong("까띠"));
+        assertEquals("", AutocompleteKeys.choseong(""));
+    }
+
+    @Test
+    void buildsWordStartChoseongAndMixedKeys() {
+        Set<String> keys = AutocompleteKeys.of("우도 식당");
+
+        assertEquals(Set.of(
+                "우도식당", "ㅇㄷㅅㄷ", "우ㄷㅅㄷ", "우도ㅅㄷ", "우도식ㄷ",
+                "식당", "ㅅㄷ", "식ㄷ"), keys);
+    }
+
+    @Test
+    void blankNamesHaveNoKeys() {
+        assertTrue(AutocompleteKeys.of(null).isEmpty());
+        assertTrue(AutocompleteKeys.of("   ").isEmpty());
+        assertTrue(AutocompleteKeys.of("!?").isEmpty());
+    }
+
+    @Test
+    void matchesMixedSyllableAndChoseongQueries() {
+        PrefixTrie<String> trie = trie("우도 해녀식당", "우리 식당");
+
+        assertEquals(List.of("우도 해녀식당"), suggest(trie, "우ㄷ"));
+        assertEquals(List.of("우도 해녀식당"), suggest(trie, "우도ㅎㄴ"));
+        assertEquals(List.of("우도 해녀식당"), suggest(trie, "해ㄴㅅ"));
+        assertEquals(List.of("우도 해녀식당", "우리 식당"), suggest(trie, "ㅇ"));
+        // 완성된 글자 뒤에 다시 완성된 글자가 오는 경우는 원래 키로 맞춤
+        assertTrue(suggest(trie, "ㅇ도").isEmpty());
+    }
+
+    @Test
+    void matchesHangulLatinMixes() {
+        PrefixTrie<String> trie = trie("CU 제주공항점", "GS25 우도점");
+
+        assertEquals(List.of("CU 제주공항점"), suggest(trie, "cuㅈㅈ"));
+        assertEquals(List.of("CU 제주공항점"), suggest(trie, "cu제ㅈ"));
+        assertEquals(List.of("CU 제주공항점"), suggest(trie, "Cu 제주"));
+        assertEquals(List.of("GS25 우도점"), suggest(trie, "gs25ㅇ"));
+        assertFalse(suggest(trie, "ㅈㅈ").isEmpty()); // "제주공항점"이 단어 시작 키
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageResizerTest {
+
+    // 저장된 이미지: 64x32, 왼쪽 위 16x16만 빨간색
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 32;
+    private static final int MARK = 16;
+
+    @Test
+    void readsOrientationInBothByteOrders() throws IOException {
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            assertEquals(orientation, ImageResizer.readOrientation(jpeg(exif(true, orientation))), "II " + orientation);
+            assertEquals(orientation, ImageResizer.readOrientation(jpeg(exif(false, orientation))), "MM " + orientation);
+        }
+    }
+
+    @Test
+    void readsOrientationAfterOtherSegments() throws IOException {
+        byte[] data = jpeg(exif(false, 6));
+        // ImageIO가 쓴 JFIF APP0 뒤에 들어가는지 확인
+        assertEquals(0xE0, data[3] & 0xFF);
+        assertEquals(6, ImageResizer.readOrientation(data));
+    }
+
+    @Test
+    void appliesAllEightOrientations() throws IOException {
+        // 보정 후 빨간 표시가 있어야 할 모서리 (x가 오른쪽인지, y가 아래쪽인지)
+        boolean[][] expectedCorner = {
+                {false, false}, // 1: 그대로
+                {true, false},  // 2: 좌우 반전
+                {true, true},   // 3: 180도
+                {false, true},  // 4: 상하 반전
+                {false, false}, // 5: 전치
+                {true, false},  // 6: 시계 방향 90도
+                {true, true},   // 7: 반대 전치
+                {false, true},  // 8: 반시계 방향 90도
+        };
+        for (int orientation = 1; orientation <= 8; orientation++) {
+            for (boolean littleEndian : new boolean[]{true, false}) {
+                BufferedImage image = ImageResizer.read(jpeg(exif(littleEndian, orientation)), 1024);
+
+                boolean swapped = orientation >= 5;
+                String label = (littleEndian ? "II " : "MM ") + orientation;
+                assertEquals(swapped ? HEIGHT : WIDTH, image.getWidth(), label);
+                assertEquals(swapped ? WIDTH : HEIGHT, image.getHeight(), label);
+
+                int x = expectedCorner[orientation - 1][0] ? image.getWidth() - MARK / 2 : MARK / 2;
+                int y = expectedCorner[orientation - 1][1] ? image.getHeight() - MARK / 2 : MARK / 2;
+                assertTrue(isRed(image.getRGB(x, y)), label + " mark at " + x + "," + y);
+                assertTrue(!isRed(image.getRGB(image.getWidth() - 1 - x, image.getHeight() - 1 - y)), label + " opposite corner");
+            }
+        }
+    }
+
+    @Test
+    void defaultsWithoutExif() throws IOException {
+        byte[] data = jpeg(null);
+        assertEquals(1, ImageResizer.readOrientation(data));
+
+        BufferedImage image = ImageResizer.read(data, 1024);
+        assertEquals(WIDTH, image.getWidth());
+        assertTrue(isRed(image.getRGB(MARK / 2, MARK / 2)));
+    }
+
+    @Test
+    void ignoresNonJpegAndTinyInput() {
+        assertEquals(1, ImageResizer.readOrientation(new byte[0]));
+        assertEquals(1, ImageResizer.readOrientation(new byte[]{(byte) 0xFF, (byte) 0xD8}));
+        assertEquals(1, ImageResizer.readOrientation(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A}));
+    }
+
+    @Test
+    void ignoresTruncatedApp1() throws IOException {
+        byte[] segment = exif(true, 6);
+        byte[] data = concat(new byte[]{(byte) 0xFF, (byte) 0xD8}, segment);
+
+        // 세그먼트 길이보다 짧게 잘린 경우 (선언한 끝이 데이터 밖)
+        for (int cut = 1; cut < segment.length; cut++) {
+            assertEquals(1, ImageResizer.readOrientation(Arrays.copyOf(data, data.length - cut)), "cut " + cut);
+        }
+    }
+
+    @Test
+    void ignoresMalformedTiffHeader() throws IOException {
+        // 잘못된 바이트 순서 표시
+        byte[] badByteOrder = exif(true, 6);
+        badByteOrder[10] = 'X';
+        badByteOrder[11] = 'X';
+        assertEquals(1, ImageResizer.readOrientation(jpeg(badByteOrder)));
+
+        // IFD 오프셋이 세그먼트 밖
+        byte[] badOffset = exif(false, 6);
+        ByteBuffer.wrap(badOffset).putInt(14, 0x7FFFFFF0);
+        assertEquals(1, ImageResizer.readOrientation(jpeg(badOffset)));
+
+        // IFD 항목 수가 세그먼트보다 많음
+        byte[] badCount = exif(false, 6);
+        ByteBuffer.wrap(badCount).putShort(18, (short) 200);
+        assertEquals(1, ImageResizer.readOrientation(jpeg(badCount)));
+
+        // 세그먼트 길이가 Exif 헤더보다 짧음
+        byte[] shortSegment = exif(true, 6);
+        ByteBuffer.wrap(shortSegment).putShort(2, (short) 6);
+        assertEquals(1, ImageResizer.readOrientation(concat(new byte[]{(byte) 0xFF, (byte) 0xD8}, shortSegment)));
+    }
+
+    @Test
+    void ignoresOutOfRangeOrientation() throws IOException {
+        assertEquals(1, ImageResizer.readOrientation(jpeg(exif(true, 0))));
+        assertEquals(1, ImageResizer.readOrientation(jpeg(exif(false, 9))));
+    }
+
+    @Test
+    void ignoresNonExifApp1() throws IOException {
+        byte[] xmp = exif(true, 6);
+        xmp[4] = 'h'; // "http://ns.adobe.com/xap/..." 같은 다른 APP1
+        assertEquals(1, ImageResizer.readOrientation(jpeg(xmp)));
+    }
+
+    private static boolean isRed(int rgb) {
+        Color color = new Color(rgb);
+        return color.getRed() > 200 && color.getGreen() < 80 && color.getBlue() < 80;
+    }
+
+    // Orientation 앞에 다른 태그 하나를 둔 IFD0 (항목을 건너뛰는 경로도 지나도록)
+    private static byte[] exif(boolean littleEndian, int orientation) {
+        ByteBuffer tiff = ByteBuffer.allocate(8 + 2 + 2 * 12 + 4)
+                .order(littleEndian ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN);
+        byte order = (byte) (littleEndian ? 'I' : 'M');
+        tiff.put(order).put(order).putShort((short) 42).putInt(8);
+        tiff.putShort((short) 2);
+        tiff.putShort((short) 0x0100).putShort((short) 3).putInt(1).putShort((short) WIDTH).putShort((short) 0);
+        tiff.putShort((short) 0x0112).putShort((short) 3).putInt(1).putShort((short) orientation).putShort((short) 0);
+        tiff.putInt(0);
+
+        byte[] header = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+        ByteBuffer segment = ByteBuffer.allocate(4 + header.length + tiff.capacity());
+        segment.put((byte) 0xFF).put((byte) 0xE1).putShort((short) (2 + header.length + tiff.capacity()))
+                .put(header).put(tiff.array());
+        return segment.array();
+    }
+
+    // 테스트 이미지를 JPEG로 쓰고 JFIF APP0 바로 뒤에 APP1 세그먼트를 끼워 넣음
+    private static byte[] jpeg(byte[] app1) throws IOException {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, WIDTH, HEIGHT);
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, MARK, MARK);
+        graphics.dispose();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        byte[] data = output.toByteArray();
+        if (app1 == null) {
+            return data;
+        }
+        int insertAt = 2;
+        if ((data[2] & 0xFF) == 0xFF && (data[3] & 0xFF) == 0xE0) {
+            insertAt = 4 + (((data[4] & 0xFF) << 8) | (data[5] & 0xFF));
+        }
+        return concat(Arrays.copyOf(data, insertAt), app1, Arrays.copyOfRange(data, insertAt, data.length));
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            output.writeBytes(part);
+        }
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryShortLivedStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    @Test
+    void putIfAbsentHasOneWinnerPerKeyUnderContention() throws Exception {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(100_000);
+        int threads = 16;
+        int keys = 500;
+        AtomicIntegerArray winners = new AtomicIntegerArray(keys);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                String value = "thread-" + t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int k = 0; k < keys; k++) {
+                        if (store.putIfAbsent("key-" + k, value, TTL)) {
+                            winners.incrementAndGet(k);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (int k = 0; k < keys; k++) {
+            assertEquals(1, winners.get(k), "key-" + k);
+        }
+        assertEquals(keys, store.size());
+    }
+
+    @Test
+    void putIfAbsentKeepsLiveEntry() {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+
+        assertTrue(store.putIfAbsent("code", "first", TTL));
+        assertFalse(store.putIfAbsent("code", "second", TTL));
+        assertEquals(Optional.of("first"), store.get("code"));
+    }
+
+    @Test
+    void expiredEntryIsGoneAndCanBeClaimedAgain() {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+
+        store.put("expired", "old", Duration.ZERO);
+        assertEquals(Optional.empty(), store.get("expired"));
+        assertEquals(0, store.size()); // 조회할 때 만료 항목 제거
+
+        assertTrue(store.putIfAbsent("claim", "old", Duration.ZERO));
+        assertTrue(store.putIfAbsent("claim", "new", TTL));
+        assertEquals(Optional.of("new"), store.get("claim"));
+    }
+
+    @Test
+    void expiresAfterTtl() throws InterruptedException {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+
+        store.put("code", "token", Duration.ofMillis(30));
+        assertEquals(Optional.of("token"), store.get("code"));
+
+        Thread.sleep(60);
+        assertEquals(Optional.empty(), store.get("code"));
+    }
+
+    @Test
+    void putReplacesValueAndTtl() {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+
+        assertTrue(store.putIfAbsent("code", "", TTL));
+        store.put("code", "token", TTL);
+        assertEquals(Optional.of("token"), store.get("code"));
+
+        store.remove("code");
+        assertEquals(Optional.empty(), store.get("code"));
+        assertTrue(store.putIfAbsent("code", "again", TTL));
+    }
+
+    @Test
+    void evictsSoonestToExpireWhenFull() {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+        for (int i = 0; i < 10; i++) {
+            store.put("key-" + i, "v", Duration.ofMinutes(10 + i));
+        }
+        assertEquals(10, store.size());
+
+        // 최대 크기를 넘으면 90%까지 줄이며, 가장 먼저 만료될 항목부터 지움
+        store.put("key-10", "v", Duration.ofMinutes(30));
+
+        assertEquals(9, store.size());
+        assertEquals(Optional.empty(), store.get("key-0"));
+        assertEquals(Optional.empty(), store.get("key-1"));
+        assertEquals(Optional.of("v"), store.get("key-2"));
+        assertEquals(Optional.of("v"), store.get("key-10"));
+    }
+
+    @Test
+    void evictsExpiredEntriesFirst() {
+        InMemoryShortLivedStore store = new InMemoryShortLivedStore(10);
+        for (int i = 0; i < 5; i++) {
+            store.put("expired-" + i, "v", Duration.ZERO);
+        }
+        for (int i = 0; i < 6; i++) {
+            store.put("live-" + i, "v", Duration.ofMinutes(10 + i));
+        }
+
+        // 만료 항목만 지워도 크기 안으로 들어오므로 살아 있는 항목은 그대로
+        assertEquals(6, store.size());
+        for (int i = 0; i < 6; i++) {
+            assertEquals(Optional.of("v"), store.get("live-" + i));
+        }
+    }
+}
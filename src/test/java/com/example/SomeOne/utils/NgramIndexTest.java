@@ -0,0 +1,118 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramIndexTest {
+
+    private record Place(String name, String address) {
+    }
+
+    private static final List<NgramIndex.Field<Place>> FIELDS = List.of(
+            new NgramIndex.Field<>(Place::name, 10.0),
+            new NgramIndex.Field<>(Place::address, 2.0));
+
+    private static NgramIndex<Place> index(Place... places) {
+        return NgramIndex.build(List.of(places), FIELDS);
+    }
+
+    @Test
+    void normalizesCaseSpacesAndSymbols() {
+        assertEquals("cu제주공항점", NgramIndex.normalize(" CU 제주-공항점! "));
+        assertEquals("", NgramIndex.normalize(null));
+        assertEquals("", NgramIndex.normalize("  - "));
+    }
+
+    @Test
+    void emptyQueriesReturnNothing() {
+        NgramIndex<Place> index = index(new Place("우도 해녀식당", "제주 우도면"));
+
+        assertTrue(index.search(null, 0, 10).isEmpty());
+        assertTrue(index.search("", 0, 10).isEmpty());
+        assertTrue(index.search("   ", 0, 10).isEmpty());
+        assertTrue(index.search("!?", 0, 10).isEmpty());
+        assertTrue(NgramIndex.<Place>empty().search("우도", 0, 10).isEmpty());
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        Place exact = new Place("섬", "제주");
+        Place prefix = new Place("섬식당", "제주");
+        Place contains = new Place("우도섬", "제주");
+        Place other = new Place("해변", "제주");
+        NgramIndex<Place> index = index(contains, other, prefix, exact);
+
+        // 완전 일치 > 접두 일치 > 포함
+        assertEquals(List.of(exact, prefix, contains), index.search("섬", 0, 10));
+    }
+
+    @Test
+    void requiresContiguousMatchNotJustSharedBigrams() {
+        Place scattered = new Place("abxba", "");  // ab, ba는 있지만 abab는 없음
+        Place contiguous = new Place("ababx", "");
+        NgramIndex<Place> index = index(scattered, contiguous);
+
+        assertEquals(List.of(contiguous), index.search("abab", 0, 10));
+    }
+
+    @Test
+    void allTermsMustMatchSomeField() {
+        Place udo = new Place("해녀식당", "제주 우도면");
+        Place jeju = new Place("해녀의집", "제주 구좌읍");
+        NgramIndex<Place> index = index(udo, jeju);
+
+        assertEquals(List.of(udo), index.search("해녀 우도", 0, 10));
+        assertTrue(index.search("해녀 성산", 0, 10).isEmpty());
+    }
+
+    @Test
+    void matchesHangulLatinMixes() {
+        Place cu = new Place("CU 제주공항점", "제주시 용담");
+        Place bbq = new Place("BBQ 우도점", "우도면");
+        NgramIndex<Place> index = index(cu, bbq);
+
+        assertEquals(List.of(cu), index.search("cu제주", 0, 10));
+        assertEquals(List.of(cu), index.search("Cu 공항", 0, 10));
+        assertEquals(List.of(bbq), index.search("bbq우도", 0, 10));
+        assertTrue(index.search("bbq제주", 0, 10).isEmpty());
+    }
+
+    @Test
+    void tiesPreferShorterNameThenIndexOrder() {
+        Place longer = new Place("우도 땅콩 아이스크림", "");
+        Place first = new Place("우도 땅콩집", "");
+        Place second = new Place("우도 땅콩숍", "");
+        NgramIndex<Place> index = index(longer, first, second);
+
+        // 모두 이름 접두 일치로 점수가 같음
+        assertEquals(List.of(first, second, longer), index.search("우도", 0, 10));
+    }
+
+    @Test
+    void nameMatchOutranksAddressMatch() {
+        Place byAddress = new Place("해녀식당", "우도면");
+        Place byName = new Place("우도식당", "제주");
+        NgramIndex<Place> index = index(byAddress, byName);
+
+        assertEquals(List.of(byName, byAddress), index.search("우도", 0, 10));
+    }
+
+    @Test
+    void pagesWithOffsetAndLimit() {
+        Place a = new Place("우도1", "");
+        Place b = new Place("우도2", "");
+        Place c = new Place("우도3", "");
+        NgramIndex<Place> index = index(a, b, c);
+
+        assertEquals(List.of(a, b), index.search("우도", 0, 2));
+        assertEquals(List.of(c), index.search("우도", 2, 2));
+        assertTrue(index.search("우도", 3, 2).isEmpty());
+        assertTrue(index.search("우도", 0, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search("우도", -1, 2));
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PagingTest {
+
+    @Test
+    void convertsPageAndSizeToOffsetAndLimit() {
+        assertEquals(new Paging.Window(0, 20), Paging.window(0, 20));
+        assertEquals(new Paging.Window(40, 20), Paging.window(2, 20));
+        assertEquals(new Paging.Window(100, 1), Paging.window(100, 1));
+    }
+
+    @Test
+    void missingSizeMeansEverything() {
+        assertEquals(new Paging.Window(0, Integer.MAX_VALUE), Paging.window(0, null));
+        assertEquals(new Paging.Window(0, Integer.MAX_VALUE), Paging.window(5, null));
+    }
+
+    @Test
+    void acceptsSizeBounds() {
+        assertEquals(1, Paging.requireSize(1));
+        assertEquals(Paging.MAX_PAGE_SIZE, Paging.requireSize(Paging.MAX_PAGE_SIZE));
+    }
+
+    @Test
+    void rejectsOutOfRangeSize() {
+        assertThrows(IllegalArgumentException.class, () -> Paging.requireSize(0));
+        assertThrows(IllegalArgumentException.class, () -> Paging.requireSize(-1));
+        assertThrows(IllegalArgumentException.class, () -> Paging.requireSize(Paging.MAX_PAGE_SIZE + 1));
+        assertThrows(IllegalArgumentException.class, () -> Paging.window(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> Paging.window(0, Paging.MAX_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void rejectsNegativePage() {
+        assertThrows(IllegalArgumentException.class, () -> Paging.window(-1, 20));
+        assertThrows(IllegalArgumentException.class, () -> Paging.window(-1, null));
+    }
+
+    @Test
+    void capsOffsetInsteadOfOverflowing() {
+        Paging.Window window = Paging.window(Integer.MAX_VALUE, Paging.MAX_PAGE_SIZE);
+
+        assertEquals(Integer.MAX_VALUE, window.offset());
+        assertEquals(Paging.MAX_PAGE_SIZE, window.limit());
+    }
+
+    @Test
+    void pageableValidatesSize() {
+        Pageable first = Paging.pageable(20);
+        assertEquals(0, first.getPageNumber());
+        assertEquals(20, first.getPageSize());
+
+        assertFalse(Paging.pageable(null).isPaged());
+        assertThrows(IllegalArgumentException.class, () -> Paging.pageable(0));
+        assertThrows(IllegalArgumentException.class, () -> Paging.pageable(Paging.MAX_PAGE_SIZE + 1));
+        assertTrue(Paging.pageable(Paging.MAX_PAGE_SIZE).isPaged());
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PrefixTrieTest {
+
+    @Test
+    void emptyPrefixOrLimitReturnsNothing() {
+        PrefixTrie<String> trie = PrefixTrie.<String>builder(10).add("우도", "우도", 1).build();
+
+        assertTrue(trie.suggest(null, 10).isEmpty());
+        assertTrue(trie.suggest("", 10).isEmpty());
+        assertTrue(trie.suggest("우", 0).isEmpty());
+        assertTrue(trie.suggest("우", -1).isEmpty());
+        assertTrue(trie.suggest("가", 10).isEmpty());
+        assertTrue(trie.suggest("우도섬", 10).isEmpty());
+        assertTrue(PrefixTrie.<String>empty().suggest("우", 10).isEmpty());
+    }
+
+    @Test
+    void singleCharacterPrefixReturnsByWeight() {
+        PrefixTrie<String> trie = PrefixTrie.<String>builder(10)
+                .add("우도", "우도", 1)
+                .add("우리", "우리", 3)
+                .add("가파도", "가파도", 5)
+                .add("우", "우", 2)
+                .build();
+
+        assertEquals(List.of("우리", "우", "우도"), trie.suggest("우", 10));
+        assertEquals(List.of("가파도"), trie.suggest("가", 10));
+        assertEquals(4, trie.size());
+    }
+
+    @Test
+    void limitsToTopN() {
+        PrefixTrie.Builder<String> builder = PrefixTrie.builder(3);
+        for (int i = 0; i < 10; i++) {
+            builder.add("섬" + i, "섬" + i, i);
+        }
+        PrefixTrie<String> trie = builder.build();
+
+        // 노드마다 maxSuggestions개만 저장하므로 더 큰 limit도 3개
+        assertEquals(List.of("섬9", "섬8", "섬7"), trie.suggest("섬", 10));
+        assertEquals(List.of("섬9", "섬8"), trie.suggest("섬", 2));
+        assertEquals(List.of("섬3"), trie.suggest("섬3", 10));
+    }
+
+    @Test
+    void tiesKeepInsertionOrder() {
+        PrefixTrie.Builder<String> builder = PrefixTrie.builder(5);
+        List<String> names = List.of("다", "가", "마", "나", "라");
+        for (String name : names) {
+            builder.add("섬" + name, name, 1);
+        }
+        builder.add("섬바", "바", 2);
+        PrefixTrie<String> trie = builder.build();
+
+        assertEquals(List.of("바", "다", "가", "마", "나"), trie.suggest("섬", 5));
+    }
+
+    @Test
+    void valueUnderSeveralKeysAppearsOnceWithHighestWeight() {
+        PrefixTrie<String> trie = PrefixTrie.<String>builder(10)
+                .add("우도해녀식당", "해녀식당", 1)
+                .add("해녀식당", "해녀식당", 1)
+                .add("ㅇㄷㅎㄴㅅㄷ", "해녀식당", 1)
+                .add("우도땅콩", "땅콩", 2)
+                .add("우도땅", "땅콩", 0) // 가중치는 가장 큰 값을 사용
+                .add("", "빈키", 9)     // 빈 키는 무시
+                .add(null, "빈키", 9)
+                .build();
+
+        assertEquals(List.of("땅콩", "해녀식당"), trie.suggest("우도", 10));
+        assertEquals(List.of("해녀식당"), trie.suggest("ㅇ", 10));
+        assertEquals(2, trie.size());
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.SomeOne.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisShortLivedStoreTest {
+
+    private static final String PREFIX = "someone:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    // Redis 대신 키-값과 TTL을 맵에 기록하는 대역 (SET NX PX, SET PX, GET, DEL)
+    private final Map<String, String> values = new ConcurrentHashMap<>();
+    private final Map<String, Duration> ttls = new ConcurrentHashMap<>();
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> operations;
+    private RedisShortLivedStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        operations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(operations);
+
+        when(operations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            boolean created = values.putIfAbsent(key, invocation.getArgument(1)) == null;
+            if (created) {
+                ttls.put(key, invocation.getArgument(2));
+            }
+            return created;
+        });
+        doAnswer(invocation -> {
+            values.put(invocation.getArgument(0), invocation.getArgument(1));
+            ttls.put(invocation.getArgument(0), invocation.getArgument(2));
+            return null;
+        }).when(operations).set(anyString(), anyString(), any(Duration.class));
+        when(operations.get(anyString())).thenAnswer(invocation -> values.get(invocation.<String>getArgument(0)));
+        when(redisTemplate.delete(anyString())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(0);
+            ttls.remove(key);
+            return values.remove(key) != null;
+        });
+
+        store = new RedisShortLivedStore(redisTemplate, PREFIX);
+    }
+
+    @Test
+    void putIfAbsentUsesSingleSetNxWithTtl() {
+        assertTrue(store.putIfAbsent("code", "", TTL));
+        assertFalse(store.putIfAbsent("code", "other", TTL));
+
+        assertEquals("", values.get(PREFIX + "code"));
+        assertEquals(TTL, ttls.get(PREFIX + "code"));
+        // 확인 후 쓰기로 나누지 않고 SET NX PX 한 번으로 처리
+        verify(operations, never()).get(anyString());
+        verify(operations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void putIfAbsentTreatsMissingReplyAsNotStored() {
+        doReturn(null).when(operations).setIfAbsent(anyString(), anyString(), any(Duration.class));
+
+        assertFalse(store.putIfAbsent("code", "", TTL));
+    }
+
+    @Test
+    void putGetAndRemoveUsePrefixedKeys() {
+        store.put("code", "token", TTL);
+
+        assertEquals(Optional.of("token"), store.get("code"));
+        assertEquals(TTL, ttls.get(PREFIX + "code"));
+        assertTrue(values.containsKey(PREFIX + "code"));
+
+        store.remove("code");
+        assertEquals(Optional.empty(), store.get("code"));
+        verify(redisTemplate).delete(PREFIX + "code");
+    }
+
+    @Test
+    void missingKeyIsEmpty() {
+        assertEquals(Optional.empty(), store.get("unknown"));
+        verify(operations).get(PREFIX + "unknown");
+    }
+}